@@ -0,0 +1,119 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark of {@link Utils#containsIgnoreCase} against converting both strings
+ * to lower case, as it was implemented before, on titles of a book data file.
+ *
+ * Each needle is searched in all titles, with warm-up rounds before measured rounds.
+ * Run with the sources on the class path, e.g.
+ * {@code java -cp out ContainsIgnoreCaseBenchmark books01.csv}.
+ */
+public final class ContainsIgnoreCaseBenchmark {
+
+    /**
+     * Needles of different lengths. The last two are long enough for Boyer-Moore-Horspool,
+     * which is only used in titles of at least 64 characters, the others are scanned for their first character.
+     */
+    private static final String[] NEEDLES = { "the", "harry", "Potter", "of the", "chronicles", "A Song of Ice",
+            "The Lord of the Rings" };
+    /** Number of rounds discarded to let the JIT compile both implementations. */
+    private static final int WARMUP_ROUNDS = 20;
+    /** Number of measured rounds. */
+    private static final int MEASURED_ROUNDS = 20;
+    /** Number of times all titles are searched for all needles in a round. */
+    private static final int REPETITIONS = 50;
+    /** Nanoseconds of a millisecond. */
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /** Not to be used. */
+    private ContainsIgnoreCaseBenchmark() {
+        throw new UnsupportedOperationException("This constructor should never be used.");
+    }
+
+    /**
+     * Matcher of a needle in a haystack.
+     */
+    private interface Matcher {
+        /**
+         * Check whether a haystack contains a needle ignoring case.
+         * @param haystack string searched in.
+         * @param needle string searched for.
+         * @return {@code true} if the needle is contained.
+         */
+        boolean contains(String haystack, String needle);
+    }
+
+    /**
+     * Run the benchmark.
+     * @param args path to a book data file, {@code books01.csv} by default.
+     * @throws IOException if the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Paths.get(args.length > 0 ? args[0] : "books01.csv");
+        LibraryFileLoader loader = new LibraryFileLoader();
+        if (!loader.loadFileContent(file)) {
+            throw new IOException("Loading book data failed for file: " + file);
+        }
+        List<String> titles = new ArrayList<>();
+        for (BookEntry book : loader.parseFileContent()) {
+            titles.add(book.getTitle());
+        }
+
+        Matcher lowerCase = (haystack, needle) -> haystack.toLowerCase().contains(needle.toLowerCase());
+        Matcher fastPath = Utils::containsIgnoreCase;
+        System.out.println(titles.size() + " titles, " + NEEDLES.length + " needles");
+        report("toLowerCase().contains", measure(lowerCase, titles));
+        report("Utils.containsIgnoreCase", measure(fastPath, titles));
+    }
+
+    /**
+     * Measure rounds of searching all titles for all needles.
+     * @param matcher implementation to be measured.
+     * @param titles titles searched in.
+     * @return time of each measured round in nanoseconds.
+     */
+    private static long[] measure(Matcher matcher, List<String> titles) {
+        long[] times = new long[MEASURED_ROUNDS];
+        long hits = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int repetition = 0; repetition < REPETITIONS; repetition++) {
+                for (String needle : NEEDLES) {
+                    for (String title : titles) {
+                        if (matcher.contains(title, needle)) {
+                            hits++;
+                        }
+                    }
+                }
+            }
+            if (round >= WARMUP_ROUNDS) {
+                times[round - WARMUP_ROUNDS] = System.nanoTime() - start;
+            }
+        }
+        // keep the results alive, so matching is not optimized away
+        if (hits < 0) {
+            System.out.println(hits);
+        }
+        return times;
+    }
+
+    /**
+     * Print the best and average time of the measured rounds.
+     * @param name name of the implementation.
+     * @param times time of each round in nanoseconds.
+     */
+    private static void report(String name, long[] times) {
+        long best = Long.MAX_VALUE;
+        long total = 0;
+        for (long time : times) {
+            best = Math.min(best, time);
+            total += time;
+        }
+        System.out.println(String.format("%-26s best %.1f ms, average %.1f ms per round", name,
+                best / NANOS_PER_MILLI, total / NANOS_PER_MILLI / times.length));
+    }
+}
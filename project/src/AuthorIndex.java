@@ -0,0 +1,43 @@
+import java.util.List;
+
+/**
+ * Inverted index from lower case names of authors to ids of their books.
+ */
+public class AuthorIndex extends TermIndex {
+
+    /**
+     * Create an index of all given books.
+     * @param books list of books, ids are positions in this list.
+     * @return index of the given books.
+     * @throws NullPointerException if the list or any book in it is null.
+     */
+    public static AuthorIndex build(List<BookEntry> books) {
+        AuthorIndex index = new AuthorIndex();
+        index.addAll(books);
+        return index;
+    }
+
+    /**
+     * Find all books of authors with a given name, ignoring case.
+     * @param name name of an author.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] findAuthor(String name) {
+        return find(name.toLowerCase());
+    }
+
+    /**
+     * Get lower case names of authors of a book.
+     * @param book book to be indexed.
+     * @return names of authors.
+     */
+    @Override
+    protected String[] terms(BookEntry book) {
+        String[] authors = book.getAuthors();
+        String[] names = new String[authors.length];
+        for (int i = 0; i < authors.length; i++) {
+            names[i] = authors[i].toLowerCase();
+        }
+        return names;
+    }
+}
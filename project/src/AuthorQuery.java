@@ -0,0 +1,58 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Query for books with an author whose name contains a given text, ignoring case.
+ */
+public class AuthorQuery implements BookQuery {
+
+    /** Text to be contained in a name of an author. */
+    private final String text;
+
+    /**
+     * Create a query.
+     * @param text text to be contained in a name of an author.
+     * @throws NullPointerException if the text is null.
+     */
+    public AuthorQuery(String text) {
+        this.text = Objects.requireNonNull(text, "Given text must not be null.");
+    }
+
+    /**
+     * Check whether an input has the form of an author query, a part of a name which
+     * contains no operator of a boolean query. Blank text is left to be rejected by the caller.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input has the form of an author query, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean hasQueryForm(String input) {
+        return !SearchQuery.containsOperator(input);
+    }
+
+    /**
+     * Find all books with an author whose name contains {@link AuthorQuery#text}.
+     * Only the distinct names of authors in the author index are scanned, not the books,
+     * unless the index is not worth building yet, see {@link LibraryData#findIndex}.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        AuthorIndex index = (AuthorIndex) data.findIndex(IndexType.AUTHOR);
+        if (index != null) {
+            return index.findContaining(text);
+        }
+
+        // matched like lower case names in the index, so results do not depend on whether it is built
+        String lowerText = text.toLowerCase();
+        List<BookEntry> books = data.getStoredBooks();
+        return IntStream.range(0, books.size())
+                .filter(id -> Arrays.stream(books.get(id).getAuthors())
+                        .anyMatch(author -> !author.isEmpty() && author.toLowerCase().contains(lowerText)))
+                .toArray();
+    }
+}
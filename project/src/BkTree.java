@@ -0,0 +1,147 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Burkhard-Keller tree of words for finding all words within a bounded
+ * Levenshtein distance of a given word without comparing it to every word.
+ */
+public class BkTree {
+
+    /**
+     * Node of the tree holding a single word.
+     */
+    private static class Node {
+        /** Word of this node. */
+        private final String word;
+        /** Children by their distance to {@link Node#word}. */
+        private final Map<Integer, Node> children;
+
+        /**
+         * Create a leaf node.
+         * @param word word of the node.
+         */
+        private Node(String word) {
+            this.word = word;
+            children = new HashMap<>();
+        }
+    }
+
+    /** Root of the tree, null if the tree is empty. */
+    private Node root;
+    /** Number of words in the tree. */
+    private int size;
+
+    /** Create an empty tree. */
+    public BkTree() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Add a word to the tree. Adding a word already in the tree has no effect.
+     * @param word word to be added.
+     * @throws NullPointerException if the word is null.
+     */
+    public void add(String word) {
+        Objects.requireNonNull(word, "Word must not be null.");
+
+        if (root == null) {
+            root = new Node(word);
+            size++;
+            return;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(node.word, word);
+            if (distance == 0) {
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                node.children.put(distance, new Node(word));
+                size++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Get number of words in the tree.
+     * @return number of words.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Find all words within a given distance of a word.
+     *
+     * By the triangle inequality only children with a distance to their
+     * parent in {@code [d - maxDistance, d + maxDistance]} can match, where
+     * {@code d} is the distance of the parent to the searched word.
+     *
+     * @param word searched word.
+     * @param maxDistance maximum Levenshtein distance of found words.
+     * @return all words within the distance.
+     * @throws NullPointerException if the word is null.
+     */
+    public List<String> findWithin(String word, int maxDistance) {
+        Objects.requireNonNull(word, "Word must not be null.");
+
+        List<String> found = new ArrayList<>();
+        if (root == null) {
+            return found;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(node.word, word);
+            if (distance <= maxDistance) {
+                found.add(node.word);
+            }
+            for (int d = Math.max(1, distance - maxDistance); d <= distance + maxDistance; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Compute Levenshtein distance of two words.
+     * @param first first word.
+     * @param second second word.
+     * @return minimum number of single character insertions, deletions
+     *         and substitutions turning one word into the other.
+     */
+    public static int distance(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
@@ -0,0 +1,399 @@
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * Index of words of book titles for ranking books by relevance with BM25.
+ *
+ * For each word, the ids of titles containing it are kept together with the number
+ * of occurrences, the largest number of occurrences and the shortest of these titles.
+ * The latter two bound the score a word can contribute, so ranking can skip books
+ * which cannot reach the best k, as in MaxScore.
+ * Removed books keep their postings until the library is compacted, but they are not
+ * counted in the statistics of the collection, so they do not change the ranking.
+ */
+public class Bm25Index implements SecondaryIndex {
+
+    /** Saturation of repeated words. */
+    private static final double K1 = 1.2;
+    /** Influence of the length of a title. */
+    private static final double B = 0.75;
+    /** Capacity of new arrays. */
+    private static final int INITIAL_CAPACITY = 4;
+    /** Approximate size of the objects kept for each word, besides its characters and postings. */
+    private static final int WORD_OVERHEAD_BYTES = 112;
+
+    /**
+     * Titles containing a word.
+     */
+    private static class Postings {
+        /** Ids of titles in ascending order, only the first {@link Postings#size} are valid. */
+        private int[] ids = new int[INITIAL_CAPACITY];
+        /** Number of occurrences of the word in each title. */
+        private int[] frequencies = new int[INITIAL_CAPACITY];
+        /** Number of titles containing the word, only the first {@link Postings#size} ids are valid. */
+        private int size;
+        /** Number of titles containing the word which are not removed. */
+        private int documents;
+        /** Largest number of occurrences in a title. */
+        private int maxFrequency;
+        /** Number of words of the shortest title containing the word. */
+        private int minLength = Integer.MAX_VALUE;
+
+        /**
+         * Append a title.
+         * @param id id of the title, greater than all ids in the list.
+         * @param frequency number of occurrences of the word in the title.
+         * @param length number of words of the title.
+         */
+        private void add(int id, int frequency, int length) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ids[size] = id;
+            frequencies[size] = frequency;
+            size++;
+            documents++;
+            maxFrequency = Math.max(maxFrequency, frequency);
+            minLength = Math.min(minLength, length);
+        }
+
+        /**
+         * Replace ids after books were removed and the following ones moved forward,
+         * see {@link PostingList#remap(int[])}. The largest number of occurrences and
+         * the shortest length are kept, as they still bound the remaining titles.
+         *
+         * @param removed ids of removed books in ascending order.
+         */
+        private void remap(int[] removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int position = Arrays.binarySearch(removed, ids[i]);
+                if (position < 0) {
+                    ids[kept] = ids[i] + position + 1;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    /** Postings of each word of any title. */
+    private final Map<String, Postings> postings;
+    /** Number of words of each title, only the first {@link Bm25Index#count} are valid. */
+    private int[] lengths;
+    /** Number of indexed titles, including removed ones. */
+    private int count;
+    /** Number of indexed titles which are not removed. */
+    private int documents;
+    /** Number of words of all titles which are not removed. */
+    private long totalLength;
+
+    /** Create an empty index. */
+    public Bm25Index() {
+        postings = new HashMap<>();
+        lengths = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Create an index of all given books. Removed books are indexed, but not counted
+     * in the statistics, see {@link Bm25Index#removed(int, BookEntry)}.
+     *
+     * @param books list of books, ids are positions in this list.
+     * @param removed condition on ids of books which are removed.
+     * @return index of the given books.
+     * @throws NullPointerException if the list, the condition or any book in the list is null.
+     */
+    public static Bm25Index build(List<BookEntry> books, IntPredicate removed) {
+        Objects.requireNonNull(books, "List of books must not be null.");
+        Objects.requireNonNull(removed, "Condition must not be null.");
+
+        Bm25Index index = new Bm25Index();
+        for (int id = 0; id < books.size(); id++) {
+            index.add(id, books.get(id));
+            if (removed.test(id)) {
+                index.removed(id, books.get(id));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Add the title of a book to the index.
+     * @param id id of the book, the number of indexed books.
+     * @param book book to be added.
+     * @throws NullPointerException if the book is null.
+     * @throws IllegalArgumentException if the id is not the number of indexed books.
+     */
+    public void add(int id, BookEntry book) {
+        Objects.requireNonNull(book, "Book must not be null.");
+        if (id != count) {
+            throw new IllegalArgumentException("Books must be added in order of their ids.");
+        }
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String word : TitleWordIndex.words(book.getTitle())) {
+            if (!word.isEmpty()) {
+                frequencies.merge(word, 1, Integer::sum);
+                length++;
+            }
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new Postings()).add(id, entry.getValue(), length);
+        }
+
+        if (count == lengths.length) {
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        lengths[count++] = length;
+        documents++;
+        totalLength += length;
+    }
+
+    /**
+     * Add the title of a book appended to the library.
+     * @param id id of the book, the number of indexed books.
+     * @param book added book.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean added(int id, BookEntry book) {
+        add(id, book);
+        return true;
+    }
+
+    /**
+     * Stop counting the title of a removed book in the statistics of the collection.
+     * Its postings are kept until the library is compacted, ranking skips them.
+     * @param id id of the removed book.
+     * @param book removed book.
+     */
+    @Override
+    public void removed(int id, BookEntry book) {
+        counted(book, -1);
+        documents--;
+        totalLength -= lengths[id];
+    }
+
+    /**
+     * Count the title of a restored book in the statistics of the collection again.
+     * @param id id of the restored book.
+     * @param book restored book.
+     */
+    @Override
+    public void restored(int id, BookEntry book) {
+        counted(book, 1);
+        documents++;
+        totalLength += lengths[id];
+    }
+
+    /**
+     * Change the number of titles containing each word of the title of a book.
+     * @param book book whose title is counted.
+     * @param change change of the number of titles.
+     */
+    private void counted(BookEntry book, int change) {
+        Set<String> words = new HashSet<>(Arrays.asList(TitleWordIndex.words(book.getTitle())));
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                postings.get(word).documents += change;
+            }
+        }
+    }
+
+    /**
+     * Replace ids after removed books were dropped from the library and the following ones
+     * moved forward. Dropped titles are not counted any more, so only their postings go.
+     * Words without any title are dropped.
+     *
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        Iterator<Postings> iterator = postings.values().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next();
+            list.remap(removed);
+            if (list.size == 0) {
+                iterator.remove();
+            }
+        }
+
+        int kept = 0;
+        for (int id = 0; id < count; id++) {
+            if (Arrays.binarySearch(removed, id) < 0) {
+                lengths[kept++] = lengths[id];
+            }
+        }
+        count = kept;
+        return true;
+    }
+
+    /**
+     * Estimate the memory taken by the postings and title lengths of the index.
+     * @return approximate size of the index in bytes.
+     */
+    @Override
+    public long memoryBytes() {
+        long bytes = (long) Integer.BYTES * lengths.length;
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            bytes += WORD_OVERHEAD_BYTES + entry.getKey().length()
+                    + 2L * Integer.BYTES * entry.getValue().ids.length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Find the books whose titles are most relevant for given words.
+     *
+     * Words are processed from the lowest to the highest upper bound of their score.
+     * Once the best k books are found, words whose bounds together cannot lift a book
+     * above the worst of them are only checked for books containing other words.
+     *
+     * @param text words to be searched for.
+     * @param k maximum number of books.
+     * @param excluded condition on ids of books which are skipped, e.g. removed ones.
+     * @return ids of the most relevant books, best first. Books with equal scores are in library order.
+     * @throws NullPointerException if the condition is null.
+     * @throws IllegalArgumentException if k is not positive.
+     */
+    public int[] rank(String text, int k, IntPredicate excluded) {
+        Objects.requireNonNull(excluded, "Condition must not be null.");
+        if (k <= 0) {
+            throw new IllegalArgumentException("Number of books must be positive.");
+        }
+
+        Set<String> words = new LinkedHashSet<>(Arrays.asList(TitleWordIndex.words(text)));
+        double averageLength = documents == 0 ? 0 : (double) totalLength / documents;
+
+        int n = 0;
+        Postings[] lists = new Postings[words.size()];
+        double[] idfs = new double[words.size()];
+        double[] bounds = new double[words.size()];
+        for (String word : words) {
+            Postings list = postings.get(word);
+            if (list != null) {
+                lists[n] = list;
+                idfs[n] = Math.log(1 + (documents - list.documents + 0.5) / (list.documents + 0.5));
+                bounds[n] = score(idfs[n], list.maxFrequency, list.minLength, averageLength);
+                n++;
+            }
+        }
+        sortByBound(lists, idfs, bounds, n);
+
+        // bounds of all lists up to and including each list
+        double[] cumulativeBounds = new double[n];
+        for (int i = 0; i < n; i++) {
+            cumulativeBounds[i] = bounds[i] + (i > 0 ? cumulativeBounds[i - 1] : 0);
+        }
+
+        // worst of the best books on top, by score and then by id
+        PriorityQueue<double[]> best = new PriorityQueue<>(k,
+                (a, b) -> a[0] != b[0] ? Double.compare(a[0], b[0]) : Double.compare(b[1], a[1]));
+        double threshold = 0;
+        int firstEssential = 0;
+        int[] positions = new int[n];
+        while (true) {
+            int id = Integer.MAX_VALUE;
+            for (int i = firstEssential; i < n; i++) {
+                if (positions[i] < lists[i].size) {
+                    id = Math.min(id, lists[i].ids[positions[i]]);
+                }
+            }
+            if (id == Integer.MAX_VALUE) {
+                break;
+            }
+            if (excluded.test(id)) {
+                for (int i = firstEssential; i < n; i++) {
+                    if (positions[i] < lists[i].size && lists[i].ids[positions[i]] == id) {
+                        positions[i]++;
+                    }
+                }
+                continue;
+            }
+
+            double score = 0;
+            for (int i = firstEssential; i < n; i++) {
+                if (positions[i] < lists[i].size && lists[i].ids[positions[i]] == id) {
+                    score += score(idfs[i], lists[i].frequencies[positions[i]], lengths[id], averageLength);
+                    positions[i]++;
+                }
+            }
+            for (int i = firstEssential - 1; i >= 0 && score + cumulativeBounds[i] >= threshold; i--) {
+                int position = Arrays.binarySearch(lists[i].ids, positions[i], lists[i].size, id);
+                positions[i] = position >= 0 ? position : -position - 1;
+                if (position >= 0) {
+                    score += score(idfs[i], lists[i].frequencies[position], lengths[id], averageLength);
+                }
+            }
+
+            if (best.size() < k) {
+                best.add(new double[] {score, id});
+            } else if (score > best.peek()[0]) {
+                best.poll();
+                best.add(new double[] {score, id});
+            }
+            if (best.size() == k) {
+                threshold = best.peek()[0];
+                // books only containing words of non-essential lists cannot beat the threshold
+                while (firstEssential < n && cumulativeBounds[firstEssential] < threshold) {
+                    firstEssential++;
+                }
+            }
+        }
+
+        int[] ranked = new int[best.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = (int) best.poll()[1];
+        }
+        return ranked;
+    }
+
+    /**
+     * Compute the BM25 score of a word in a title.
+     * @param idf inverse document frequency of the word.
+     * @param frequency number of occurrences of the word in the title.
+     * @param length number of words of the title.
+     * @param averageLength average number of words of all titles.
+     * @return score of the word.
+     */
+    private static double score(double idf, int frequency, int length, double averageLength) {
+        double norm = K1 * (1 - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    /**
+     * Sort lists of words by the upper bound of their score, lowest first.
+     * @param lists postings of the words.
+     * @param idfs inverse document frequencies of the words.
+     * @param bounds upper bounds of scores of the words.
+     * @param n number of words.
+     */
+    private static void sortByBound(Postings[] lists, double[] idfs, double[] bounds, int n) {
+        for (int i = 1; i < n; i++) {
+            for (int j = i; j > 0 && bounds[j - 1] > bounds[j]; j--) {
+                Postings list = lists[j];
+                lists[j] = lists[j - 1];
+                lists[j - 1] = list;
+                double idf = idfs[j];
+                idfs[j] = idfs[j - 1];
+                idfs[j - 1] = idf;
+                double bound = bounds[j];
+                bounds[j] = bounds[j - 1];
+                bounds[j - 1] = bound;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 /** All book's fields which can be arguments for commands. */
 public enum BookField {
     AUTHOR,
-    TITLE
+    TITLE,
+    ISBN
 }
@@ -0,0 +1,30 @@
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * Query selecting books of a library.
+ */
+public interface BookQuery {
+
+    /**
+     * Find all books of a library matching this query.
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books, i.e. their positions in
+     *         {@link LibraryData#getStoredBooks()}, in ascending order,
+     *         or best first if the query ranks books, see {@link RankedQuery}.
+     *         Removed books may be included, see {@link LibraryData#withoutRemoved(int[])}.
+     */
+    int[] evaluate(LibraryData data);
+
+    /**
+     * Find books of a library matching this query one at a time, e.g. for results shown in pages.
+     * By default, all of them are found by {@link BookQuery#evaluate} first.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return iterator over ids of matching books in the order of {@link BookQuery#evaluate}.
+     *         Removed books may be included.
+     */
+    default PrimitiveIterator.OfInt iterate(LibraryData data) {
+        return Arrays.stream(evaluate(data)).iterator();
+    }
+}
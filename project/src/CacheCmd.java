@@ -0,0 +1,59 @@
+import java.util.Objects;
+
+/**
+ * Cache command used to display statistics of the query cache of a library, or clear it.
+ */
+public class CacheCmd extends LibraryCommand {
+
+    /** Command argument, which clears the query cache. */
+    private static final String CLEAR_ARG = "CLEAR";
+    /** Message displayed after clearing the cache. */
+    private static final String CLEARED_MESSAGE = "Query cache cleared.";
+    /** Format of the cache statistics: entries, hits and misses. */
+    private static final String STATS_FORMAT = "Query cache: %d entries, %d hits, %d misses.";
+
+    /** {@code true} if the cache should be cleared, {@code false} if statistics should be shown. */
+    private boolean clear;
+
+    /**
+     * Create a cache command.
+     * @param argumentInput argument input is expected to be blank or {@value CLEAR_ARG}.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public CacheCmd(String argumentInput) {
+        super(CommandType.CACHE, argumentInput);
+    }
+
+    /**
+     * Check if an argument is blank or {@value CLEAR_ARG} and set {@link CacheCmd#clear} accordingly.
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        clear = argumentInput.equals(CLEAR_ARG);
+        return clear || argumentInput.isBlank();
+    }
+
+    /**
+     * Display hit and miss counts of the query cache, or clear it.
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+        QueryCache cache = data.getQueryCache();
+
+        if (clear) {
+            cache.clear();
+            System.out.println(CLEARED_MESSAGE);
+        } else {
+            System.out.println(String.format(STATS_FORMAT, cache.size(), cache.getHits(), cache.getMisses()));
+        }
+    }
+}
@@ -32,6 +32,17 @@ public final class CommandFactory {
                 case SEARCH: return new SearchCmd(argumentInput);
                 case REMOVE: return new RemoveCmd(argumentInput);
                 case GROUP: return new GroupCmd(argumentInput);
+                case CACHE: return new CacheCmd(argumentInput);
+                case COMPLETE: return new CompleteCmd(argumentInput);
+                case NEXT: return new NextCmd(argumentInput);
+                case FILTER: return new FilterCmd(argumentInput);
+                case GET: return new GetCmd(argumentInput);
+                case UNDO: return new UndoCmd(argumentInput);
+                case REDO: return new RedoCmd(argumentInput);
+                case BEGIN:
+                case COMMIT:
+                case ROLLBACK: return new TransactionCmd(cmdType, argumentInput);
+                case INDEX: return new IndexCmd(argumentInput);
                 default:
                     throw new IllegalArgumentException("Command type not supported: " + cmdType);
             }
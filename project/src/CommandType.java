@@ -6,5 +6,16 @@ public enum CommandType {
     SEARCH,
     LIST,
     REMOVE,
-    GROUP
+    GROUP,
+    CACHE,
+    COMPLETE,
+    NEXT,
+    FILTER,
+    GET,
+    UNDO,
+    REDO,
+    BEGIN,
+    COMMIT,
+    ROLLBACK,
+    INDEX
 }
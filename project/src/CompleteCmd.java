@@ -0,0 +1,89 @@
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Complete command used to display the best rated titles or authors starting with a given prefix.
+ */
+public class CompleteCmd extends LibraryCommand {
+
+    /** Gap between arguments in a line given by user. */
+    private static final String PADDING = " ";
+    /** Message displayed if nothing starts with the prefix. */
+    private static final String NOTHING_FOUND_MESSAGE = "No completions found for prefix: ";
+
+    /** One of {@link BookField} values. */
+    private BookField mode;
+    /** Prefix to be completed. */
+    private String prefix;
+
+    /**
+     * Create a complete command.
+     * @param argumentInput input is expected to be of the form
+     *                      "{@link CompleteCmd#mode} {@link CompleteCmd#prefix}"
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     * @see CompleteCmd#parseArguments for {@link CompleteCmd#mode}
+     *      and {@link CompleteCmd#prefix} initialisation.
+     */
+    public CompleteCmd(String argumentInput) {
+        super(CommandType.COMPLETE, argumentInput);
+    }
+
+    /**
+     * Check if the argument starts with {@link BookField} value other than
+     * {@link BookField#ISBN}, followed by whitespace and a non-blank prefix.
+     *
+     * Assign {@link CompleteCmd#mode} and {@link CompleteCmd#prefix} fields to an instance.
+     *
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        for (BookField bookField : BookField.values()) {
+            if (bookField != BookField.ISBN && argumentInput.startsWith(bookField.name() + PADDING)) {
+                mode = bookField;
+                prefix = argumentInput.substring(bookField.name().length() + PADDING.length());
+                return !prefix.isBlank();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Display up to {@value CompletionTrie#MAX_COMPLETIONS} best rated completions of
+     * {@link CompleteCmd#prefix}, or a message that nothing was found.
+     * Completions are precomputed by the library, so no book is visited.
+     *
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     * @throws IllegalArgumentException if instance mode is invalid.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        CompletionTrie completions;
+        switch (mode) {
+            case TITLE:
+                completions = data.getTitleCompletions();
+                break;
+            case AUTHOR:
+                completions = data.getAuthorCompletions();
+                break;
+            default:
+                throw new IllegalArgumentException("The given mode is invalid.");
+        }
+
+        List<String> found = completions.complete(prefix, CompletionTrie.MAX_COMPLETIONS);
+        if (found.isEmpty()) {
+            System.out.println(NOTHING_FOUND_MESSAGE + prefix);
+        }
+        for (String completion : found) {
+            System.out.println(completion);
+        }
+    }
+}
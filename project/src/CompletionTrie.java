@@ -0,0 +1,369 @@
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Radix tree of values for case-insensitive prefix completion.
+ *
+ * Every node stores the best {@value MAX_COMPLETIONS} values below it, ordered by
+ * score, so a completion only walks down the prefix and never visits the subtree.
+ * The same value may be added several times, e.g. for books with equal titles,
+ * its score is then the best score of all its occurrences.
+ */
+public class CompletionTrie {
+
+    /** Maximum number of completions stored in each node. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    /** Order of completions, best score first and alphabetical for equal scores. */
+    private static final Comparator<Node> BEST_FIRST = (first, second) -> {
+        int byScore = Float.compare(second.score, first.score);
+        return byScore != 0 ? byScore : first.value.compareTo(second.value);
+    };
+
+    /**
+     * Node of the tree, the path from the root to a node spells its key.
+     */
+    private static class Node {
+        /** Part of the key on the edge leading to this node. */
+        private String label;
+        /** Children by the first character of their label. */
+        private final Map<Character, Node> children;
+        /** Value ending at this node, null if no value ends here. */
+        private String value;
+        /** Number of occurrences of {@link Node#value} with each score. */
+        private final TreeMap<Float, Integer> scores;
+        /** Best score of all occurrences, kept so that comparisons do not look it up. */
+        private float score;
+        /** Best nodes with a value in the subtree of this node, best first. */
+        private List<Node> best;
+
+        /**
+         * Create a node without a value.
+         * @param label part of the key on the edge leading to this node.
+         */
+        private Node(String label) {
+            this.label = label;
+            children = new HashMap<>();
+            value = null;
+            scores = new TreeMap<>();
+            score = Float.NEGATIVE_INFINITY;
+            best = new ArrayList<>();
+        }
+
+        /**
+         * Add an occurrence of the value of this node.
+         * @param score score of the occurrence.
+         */
+        private void addScore(float score) {
+            scores.merge(score, 1, Integer::sum);
+            this.score = scores.lastKey();
+        }
+
+        /**
+         * Remove an occurrence of the value of this node.
+         * @param score score of the occurrence.
+         * @return {@code true} if the occurrence was removed, {@code false} if it was not found.
+         */
+        private boolean removeScore(float score) {
+            Integer count = scores.get(score);
+            if (count == null) {
+                return false;
+            }
+            if (count == 1) {
+                scores.remove(score);
+                this.score = scores.isEmpty() ? Float.NEGATIVE_INFINITY : scores.lastKey();
+            } else {
+                scores.put(score, count - 1);
+            }
+            return true;
+        }
+    }
+
+    /** Root of the tree with an empty label. */
+    private final Node root;
+
+    /** Create an empty tree. */
+    public CompletionTrie() {
+        root = new Node("");
+    }
+
+    /**
+     * Add an occurrence of a value.
+     * @param value value to be added.
+     * @param score score of the occurrence.
+     * @throws NullPointerException if the value is null.
+     */
+    public void add(String value, float score) {
+        Objects.requireNonNull(value, "Value must not be null.");
+        String key = value.toLowerCase();
+
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.children.get(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.children.put(key.charAt(i), child);
+            } else {
+                int common = commonPrefixLength(child.label, key, i);
+                if (common < child.label.length()) {
+                    child = split(node, child, common);
+                }
+            }
+            node = child;
+            path.add(node);
+            i += node.label.length();
+        }
+
+        if (node.value == null) {
+            node.value = value;
+        }
+        node.addScore(score);
+
+        for (Node onPath : path) {
+            onPath.best.remove(node);
+            int position = 0;
+            while (position < onPath.best.size() && BEST_FIRST.compare(onPath.best.get(position), node) < 0) {
+                position++;
+            }
+            if (position < MAX_COMPLETIONS) {
+                onPath.best.add(position, node);
+                if (onPath.best.size() > MAX_COMPLETIONS) {
+                    onPath.best.remove(MAX_COMPLETIONS);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove an occurrence of a value.
+     * @param value value to be removed.
+     * @param score score of the occurrence.
+     * @return {@code true} if the occurrence was removed, {@code false} if it was not found.
+     * @throws NullPointerException if the value is null.
+     */
+    public boolean remove(String value, float score) {
+        Objects.requireNonNull(value, "Value must not be null.");
+        String key = value.toLowerCase();
+
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.children.get(key.charAt(i));
+            if (node == null || !key.startsWith(node.label, i)) {
+                return false;
+            }
+            path.add(node);
+            i += node.label.length();
+        }
+
+        if (!node.removeScore(score)) {
+            return false;
+        }
+        if (node.scores.isEmpty()) {
+            node.value = null;
+            compact(path);
+        }
+
+        // a value which is not among the best of a node is not among the best of its ancestors
+        for (int j = path.size() - 1; j >= 0 && path.get(j).best.contains(node); j--) {
+            if (node.value == null) {
+                removeBest(path.get(j), node);
+            } else {
+                updateBest(path.get(j));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get best values starting with a given prefix, ignoring case.
+     * @param prefix prefix of the values.
+     * @param limit maximum number of values, at most {@value MAX_COMPLETIONS}.
+     * @return best values starting with the prefix, best first.
+     * @throws NullPointerException if the prefix is null.
+     */
+    public List<String> complete(String prefix, int limit) {
+        Objects.requireNonNull(prefix, "Prefix must not be null.");
+        String key = prefix.toLowerCase();
+
+        Node node = root;
+        int i = 0;
+        while (i < key.length() && node != null) {
+            Node child = node.children.get(key.charAt(i));
+            if (child != null && !(key.startsWith(child.label, i) || child.label.startsWith(key.substring(i)))) {
+                child = null;
+            }
+            node = child;
+            i += child == null ? 0 : child.label.length();
+        }
+
+        List<String> completions = new ArrayList<>();
+        if (node != null) {
+            for (Node completion : node.best.subList(0, Math.min(limit, node.best.size()))) {
+                completions.add(completion.value);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Split the edge leading to a child, so that a new node ends after a given number of characters.
+     * @param parent parent of the child.
+     * @param child node whose label is split.
+     * @param length length of the label of the new node.
+     * @return new node between the parent and the child.
+     */
+    private static Node split(Node parent, Node child, int length) {
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children.put(child.label.charAt(0), child);
+        middle.best = new ArrayList<>(child.best);
+        parent.children.put(middle.label.charAt(0), middle);
+        return middle;
+    }
+
+    /**
+     * Remove the last node of a path, or merge it with its only child,
+     * if no value ends there anymore. The path is updated accordingly.
+     * @param path path from the root to a node without a value.
+     */
+    private static void compact(List<Node> path) {
+        Node node = path.get(path.size() - 1);
+        if (node == path.get(0) || node.children.size() > 1) {
+            return;
+        }
+
+        Node parent = path.get(path.size() - 2);
+        path.remove(path.size() - 1);
+        if (node.children.isEmpty()) {
+            parent.children.remove(node.label.charAt(0));
+            if (parent != path.get(0) && parent.value == null && parent.children.size() == 1) {
+                path.remove(path.size() - 1);
+                mergeWithChild(path.get(path.size() - 1), parent);
+            }
+        } else {
+            mergeWithChild(parent, node);
+        }
+    }
+
+    /**
+     * Replace a node without a value by its only child.
+     * @param parent parent of the node.
+     * @param node node with exactly one child.
+     */
+    private static void mergeWithChild(Node parent, Node node) {
+        Node child = node.children.values().iterator().next();
+        child.label = node.label + child.label;
+        parent.children.put(child.label.charAt(0), child);
+    }
+
+    /**
+     * Drop a node whose value was removed from the best values of another node and refill them.
+     * The remaining best values stay in place, and only the best value ranked after the last
+     * of them is looked up in each child, so the lists of the children are not merged again.
+     *
+     * @param node node to be updated, its children must be up-to-date.
+     * @param removed node without a value among the best values of the node.
+     */
+    private static void removeBest(Node node, Node removed) {
+        boolean full = node.best.size() == MAX_COMPLETIONS;
+        node.best.remove(removed);
+        if (!full) {
+            // all values below the node were among its best values
+            return;
+        }
+
+        Node last = node.best.get(node.best.size() - 1);
+        Node next = null;
+        if (node.value != null && BEST_FIRST.compare(node, last) > 0) {
+            next = node;
+        }
+        for (Node child : node.children.values()) {
+            Node candidate = firstAfter(child.best, last);
+            if (candidate != null && (next == null || BEST_FIRST.compare(candidate, next) < 0)) {
+                next = candidate;
+            }
+        }
+        if (next != null) {
+            node.best.add(next);
+        }
+    }
+
+    /**
+     * Find the first of sorted best values ranked after a given one.
+     * @param best best values of a node, best first.
+     * @param last value the result is ranked after.
+     * @return first value ranked after the given one, or null if there is none.
+     */
+    private static Node firstAfter(List<Node> best, Node last) {
+        int low = 0;
+        int high = best.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (BEST_FIRST.compare(best.get(middle), last) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < best.size() ? best.get(low) : null;
+    }
+
+    /**
+     * Recompute the best values of a node from its own value and the best values of its children,
+     * merging the sorted lists of the children.
+     * @param node node to be updated, its children must be up-to-date.
+     */
+    private static void updateBest(Node node) {
+        List<List<Node>> lists = new ArrayList<>();
+        if (node.value != null) {
+            lists.add(List.of(node));
+        }
+        for (Node child : node.children.values()) {
+            lists.add(child.best);
+        }
+
+        int[] positions = new int[lists.size()];
+        List<Node> best = new ArrayList<>(MAX_COMPLETIONS);
+        while (best.size() < MAX_COMPLETIONS) {
+            int bestList = -1;
+            for (int i = 0; i < lists.size(); i++) {
+                if (positions[i] < lists.get(i).size() && (bestList == -1 || BEST_FIRST.compare(
+                        lists.get(i).get(positions[i]), lists.get(bestList).get(positions[bestList])) < 0)) {
+                    bestList = i;
+                }
+            }
+            if (bestList == -1) {
+                break;
+            }
+            best.add(lists.get(bestList).get(positions[bestList]++));
+        }
+        node.best = best;
+    }
+
+    /**
+     * Get length of the common prefix of a label and a key starting at a given position.
+     * @param label label of a node.
+     * @param key key being inserted.
+     * @param offset position in the key.
+     * @return number of equal characters at the start of the label and the key from the offset.
+     */
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.Objects;
+
+/**
+ * Counting Bloom filter answering whether an element might be contained in a set.
+ *
+ * A negative answer is always correct, a positive answer may be wrong with
+ * a small probability. Unlike a plain Bloom filter, elements can be removed,
+ * as each position holds a counter instead of a single bit. Counters saturate
+ * instead of overflowing and are never decreased afterwards.
+ *
+ * Elements are hashed by their {@link Object#hashCode()}, so equal elements
+ * must have equal hash codes.
+ */
+public class CountingBloomFilter {
+
+    /** Counters per expected element, giving about one percent false positives. */
+    private static final int COUNTERS_PER_ELEMENT = 10;
+    /** Number of counters set for each element. */
+    private static final int HASH_FUNCTIONS = 7;
+    /** Value of a counter which is never changed again. */
+    private static final byte SATURATED = Byte.MAX_VALUE;
+
+    /** Number of elements the filter is sized for. */
+    private final int capacity;
+    /** Counter of each position. */
+    private final byte[] counters;
+    /** Number of elements currently in the filter. */
+    private int size;
+
+    /**
+     * Create an empty filter.
+     * @param capacity number of elements the filter is sized for.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public CountingBloomFilter(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Filter capacity must be positive.");
+        }
+        this.capacity = capacity;
+        counters = new byte[capacity * COUNTERS_PER_ELEMENT];
+        size = 0;
+    }
+
+    /**
+     * Add an element to the filter.
+     * @param element element to be added.
+     * @throws NullPointerException if the element is null.
+     */
+    public void add(Object element) {
+        Objects.requireNonNull(element, "Element must not be null.");
+
+        int hash = mix(element.hashCode());
+        int step = mix(hash) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int position = position(hash + i * step);
+            if (counters[position] != SATURATED) {
+                counters[position]++;
+            }
+        }
+        size++;
+    }
+
+    /**
+     * Remove an element previously added to the filter.
+     * Removing an element which was not added makes later answers unreliable.
+     *
+     * @param element element to be removed.
+     * @throws NullPointerException if the element is null.
+     */
+    public void remove(Object element) {
+        Objects.requireNonNull(element, "Element must not be null.");
+
+        int hash = mix(element.hashCode());
+        int step = mix(hash) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int position = position(hash + i * step);
+            if (counters[position] != SATURATED && counters[position] > 0) {
+                counters[position]--;
+            }
+        }
+        size--;
+    }
+
+    /**
+     * Check whether an element might have been added to the filter.
+     * @param element element to be checked.
+     * @return {@code false} if the element is certainly not contained, otherwise {@code true}.
+     * @throws NullPointerException if the element is null.
+     */
+    public boolean mightContain(Object element) {
+        Objects.requireNonNull(element, "Element must not be null.");
+
+        int hash = mix(element.hashCode());
+        int step = mix(hash) | 1;
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            if (counters[position(hash + i * step)] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the filter holds more elements than it is sized for,
+     * so it should be replaced by a larger one.
+     * @return {@code true} if the filter is over capacity, otherwise {@code false}.
+     */
+    public boolean isFull() {
+        return size > capacity;
+    }
+
+    /**
+     * Map a hash to a position of {@link CountingBloomFilter#counters}.
+     * @param hash any hash value.
+     * @return position of a counter.
+     */
+    private int position(int hash) {
+        return Math.floorMod(hash, counters.length);
+    }
+
+    /**
+     * Spread bits of a hash code (finalizer of MurmurHash3).
+     * @param hash hash code to be mixed.
+     * @return mixed hash code.
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,90 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+/**
+ * Open {@link ResultCursor}s of a library by their tokens.
+ * Only a bounded number of cursors is kept, the least recently used are dropped.
+ */
+public class CursorRegistry {
+
+    /** Maximum number of open cursors. */
+    private static final int CAPACITY = 64;
+    /** Load factor of the underlying map. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** Prefix of all tokens. */
+    private static final String TOKEN_PREFIX = "c";
+    /** Radix of the number in a token. */
+    private static final int TOKEN_RADIX = 36;
+
+    /** Open cursors by their tokens, ordered from least to most recently used. */
+    private final Map<String, ResultCursor> cursors;
+    /** Number of cursors opened so far, used for unique tokens. */
+    private long opened;
+
+    /** Create a registry without open cursors. */
+    public CursorRegistry() {
+        cursors = new LinkedHashMap<>(CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ResultCursor> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+        opened = 0;
+    }
+
+    /**
+     * Open and register a new cursor.
+     * @param ids iterator over ids of all results, taken only as far as pages are shown.
+     * @param pageSize maximum number of results per page.
+     * @param longForm {@code true} if entire books are shown, {@code false} if only titles are shown.
+     * @param layoutVersion layout version of the library the ids refer to.
+     * @return new cursor before the first result.
+     */
+    public ResultCursor open(PrimitiveIterator.OfInt ids, int pageSize, boolean longForm, long layoutVersion) {
+        String token = TOKEN_PREFIX + Long.toString(++opened, TOKEN_RADIX);
+        ResultCursor cursor = new ResultCursor(token, ids, pageSize, longForm, layoutVersion);
+        cursors.put(token, cursor);
+        return cursor;
+    }
+
+    /**
+     * Get an open cursor.
+     * @param token token of the cursor.
+     * @return cursor with the token, or null if there is no such open cursor.
+     * @throws NullPointerException if the token is null.
+     */
+    public ResultCursor get(String token) {
+        Objects.requireNonNull(token, "Given token must not be null.");
+        return cursors.get(token);
+    }
+
+    /**
+     * Render the next page of a cursor and close it if all results have been shown.
+     * @param cursor cursor of this registry.
+     * @param data library the ids of the cursor refer to.
+     * @return rendered page.
+     * @throws NullPointerException if any of the given parameters is null.
+     */
+    public String renderPage(ResultCursor cursor, LibraryData data) {
+        Objects.requireNonNull(cursor, "Given cursor must not be null.");
+        Objects.requireNonNull(data, "Given library must not be null.");
+
+        String page = cursor.renderPage(data);
+        if (cursor.isExhausted()) {
+            close(cursor);
+        }
+        return page;
+    }
+
+    /**
+     * Close a cursor, its token cannot be used anymore.
+     * @param cursor cursor to be closed.
+     * @throws NullPointerException if the cursor is null.
+     */
+    public void close(ResultCursor cursor) {
+        Objects.requireNonNull(cursor, "Given cursor must not be null.");
+        cursors.remove(cursor.getToken());
+    }
+}
@@ -0,0 +1,83 @@
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Filter command used to display books with numeric fields in given ranges,
+ * e.g. {@code RATING >= 4.3 PAGES < 300}, see {@link RangeQuery}.
+ */
+public class FilterCmd extends LibraryCommand {
+
+    /** Message displayed when nothing was found. */
+    private static final String NOTHING_FOUND_MESSAGE = "No books found for filter: ";
+
+    /** Ranges given by user. */
+    private final String filterValue;
+    /** Parsed {@link FilterCmd#filterValue}. */
+    private RangeQuery query;
+
+    /**
+     * Create a filter command.
+     * @param argumentInput argument input is expected to be a valid {@link RangeQuery}.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     * @see FilterCmd#parseArguments for {@link FilterCmd#query} initialisation.
+     */
+    public FilterCmd(String argumentInput) {
+        super(CommandType.FILTER, argumentInput);
+        filterValue = argumentInput;
+    }
+
+    /**
+     * Check whether the given argument is a valid range query.
+     * If it is valid, assign the parsed query to {@link FilterCmd#query}.
+     *
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     * @throws NullPointerException if the given argument is null.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        query = RangeQuery.parse(argumentInput);
+        return query != null;
+    }
+
+    /**
+     * Execute the command and display titles of all books in the given ranges
+     * in library order, or a message that nothing was found. Repeated filters on
+     * an unchanged library are answered from its {@link QueryCache}.
+     *
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if library data is null, or list of books of the library is null,
+     *                              or if any book in this list is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        String cacheKey = getType() + " " + filterValue;
+        System.out.print(data.getQueryCache().getOrRender(cacheKey, data.getVersion(), () -> render(data)));
+    }
+
+    /**
+     * Render titles of all books matching {@link FilterCmd#query},
+     * or a message that nothing was found.
+     * @param data library to be searched.
+     * @return rendered output of the command.
+     */
+    private String render(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        StringBuilder output = new StringBuilder();
+
+        for (int id : data.withoutRemoved(query.evaluate(data))) {
+            Utils.appendLine(output, books.get(id).getTitle());
+        }
+
+        if (output.length() == 0) {
+            Utils.appendLine(output, NOTHING_FOUND_MESSAGE + filterValue);
+        }
+        return output.toString();
+    }
+}
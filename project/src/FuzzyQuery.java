@@ -0,0 +1,89 @@
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Query for books with a title containing a word similar to a given word,
+ * e.g. {@code potterr 1} finds all titles with a word at most one edit away from "potterr".
+ */
+public class FuzzyQuery implements BookQuery {
+
+    /** Maximum edit distance used if none is given. */
+    private static final int DEFAULT_DISTANCE = 2;
+    /** Largest edit distance accepted, larger distances match almost every word. */
+    private static final int MAX_DISTANCE = 3;
+    /** Gap between the word and the distance. */
+    private static final String PADDING = " ";
+    /** Form of a distance, which may still be out of range. */
+    private static final Pattern DISTANCE_FORM = Pattern.compile("-?\\d+");
+
+    /** Searched word. */
+    private final String word;
+    /** Maximum edit distance of found words. */
+    private final int maxDistance;
+
+    /**
+     * Create a query.
+     * @param word searched word.
+     * @param maxDistance maximum edit distance of found words.
+     */
+    private FuzzyQuery(String word, int maxDistance) {
+        this.word = word;
+        this.maxDistance = maxDistance;
+    }
+
+    /**
+     * Check whether an input has the form "word [distance]" of a fuzzy query, i.e. a single word
+     * optionally followed by a number. The number is not checked to be a valid distance,
+     * so that a wrong distance is rejected by {@link FuzzyQuery#parse} instead of
+     * being searched for as a word.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input has the form of a fuzzy query, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean hasQueryForm(String input) {
+        Objects.requireNonNull(input, "Given query must not be null.");
+
+        String[] parts = input.split(PADDING, -1);
+        return parts.length == 1 || (parts.length == 2 && DISTANCE_FORM.matcher(parts[1]).matches());
+    }
+
+    /**
+     * Parse a query of the form "word [distance]".
+     * @param input query to be parsed.
+     * @return parsed query, or {@code null} if the query is invalid.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static FuzzyQuery parse(String input) {
+        Objects.requireNonNull(input, "Given query must not be null.");
+
+        String[] parts = input.split(PADDING, -1);
+        if (parts.length > 2 || parts[0].isBlank()) {
+            return null;
+        }
+
+        int maxDistance = DEFAULT_DISTANCE;
+        if (parts.length == 2) {
+            try {
+                maxDistance = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (maxDistance < 0 || maxDistance > MAX_DISTANCE) {
+                return null;
+            }
+        }
+        return new FuzzyQuery(parts[0], maxDistance);
+    }
+
+    /**
+     * Find all books with a title containing a word within {@link FuzzyQuery#maxDistance}
+     * of {@link FuzzyQuery#word}.
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        return data.getTitleWordIndex().findSimilar(word, maxDistance);
+    }
+}
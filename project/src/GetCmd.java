@@ -0,0 +1,68 @@
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Get command used to display the book of a given ISBN, in ISBN-10 or ISBN-13 form.
+ */
+public class GetCmd extends LibraryCommand {
+
+    /** Keyword of a lookup by ISBN. */
+    private static final String ISBN_MODE = "ISBN";
+    /** Gap between arguments in a line given by user. */
+    private static final String PADDING = " ";
+    /** Message displayed if there is no book of the ISBN. */
+    private static final String NOT_FOUND_MESSAGE = "No book found for ISBN: ";
+
+    /** ISBN to be looked up. */
+    private String isbn;
+
+    /**
+     * Create a get command.
+     * @param argumentInput input is expected to be of the form "{@value ISBN_MODE} {@link GetCmd#isbn}".
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     * @see GetCmd#parseArguments for {@link GetCmd#isbn} initialisation.
+     */
+    public GetCmd(String argumentInput) {
+        super(CommandType.GET, argumentInput);
+    }
+
+    /**
+     * Check if the argument is {@value ISBN_MODE} followed by whitespace and a single word.
+     * Assign the word to {@link GetCmd#isbn}.
+     *
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        if (!argumentInput.startsWith(ISBN_MODE + PADDING)) {
+            return false;
+        }
+        isbn = argumentInput.substring(ISBN_MODE.length() + PADDING.length());
+        return !isbn.isBlank();
+    }
+
+    /**
+     * Display all books of {@link GetCmd#isbn} in long form, or a message that there is none.
+     * Books are looked up in the ISBN index of the library, so no other book is visited.
+     *
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        List<BookEntry> found = data.getIsbnIndex().find(isbn);
+        if (found.isEmpty()) {
+            System.out.println(NOT_FOUND_MESSAGE + isbn);
+        }
+        for (BookEntry book : found) {
+            System.out.println(book);
+        }
+    }
+}
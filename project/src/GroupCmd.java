@@ -35,7 +35,8 @@ public class GroupCmd extends LibraryCommand {
     }
 
     /**
-     * Check if a given argument is valid (is one of {@link BookField} value).
+     * Check if a given argument is valid (is one of {@link BookField} value
+     * except {@link BookField#ISBN}, which is unique for each book).
      * If it is valid, assign it to {@link GroupCmd#mode}.
      *
      * @param argumentInput argument input for this command.
@@ -48,7 +49,7 @@ public class GroupCmd extends LibraryCommand {
 
         for (BookField legalMode : BookField.values()) {
             String legalModeStr = legalMode.name();
-            if (argumentInput.equals(legalModeStr)) {
+            if (legalMode != BookField.ISBN && argumentInput.equals(legalModeStr)) {
                 mode = legalMode;
                 return true;
             }
@@ -59,6 +60,7 @@ public class GroupCmd extends LibraryCommand {
     /**
      * Execute group command, display books grouped according to {@link GroupCmd#mode}.
      * If there are no books in a library, print a special message instead.
+     * Repeated grouping of an unchanged library is answered from its {@link QueryCache}.
      *
      * @param data book data to be considered for command execution.
      * @throws NullPointerException if library, list of books, any book, or {@link GroupCmd#mode} is null.
@@ -68,47 +70,66 @@ public class GroupCmd extends LibraryCommand {
     public void execute(LibraryData data) {
         Objects.requireNonNull(data, "Library data must not be null.");
 
-        List<BookEntry> books = Utils.getNonNullBookData(data);
+        String cacheKey = getType() + " " + mode;
+        System.out.print(data.getQueryCache().getOrRender(cacheKey, data.getVersion(),
+                () -> render(data)));
+    }
+
+    /**
+     * Render books grouped according to {@link GroupCmd#mode}.
+     * Removed books which were not compacted yet are skipped.
+     * @param data library to be grouped.
+     * @return rendered output of the command.
+     * @throws NullPointerException if list of books, any book, or {@link GroupCmd#mode} is null.
+     * @throws IllegalArgumentException if an instance's mode is invalid.
+     */
+    private String render(LibraryData data) {
+        StringBuilder output = new StringBuilder();
 
-        if (books.isEmpty()) {
-            System.out.println(EMPTY_LIBRARY_MESSAGE);
+        if (data.getAvailableCount() == 0) {
+            Utils.appendLine(output, EMPTY_LIBRARY_MESSAGE);
         } else {
             Objects.requireNonNull(mode, "Mode must not be null.");
-            System.out.println(GROUPED_MESSAGE + mode.name());
+            Utils.appendLine(output, GROUPED_MESSAGE + mode.name());
 
             switch (mode) {
                 case TITLE:
-                    groupByTitle(books);
+                    groupByTitle(output, data);
                     break;
                 case AUTHOR:
-                    groupByAuthor(books);
+                    groupByAuthor(output, data);
                     break;
                 default:
                     throw new IllegalArgumentException("The given mode is invalid.");
             }
         }
+        return output.toString();
     }
 
     /**
      * Group by title and print all groups.
-     * @param books not null and not empty list of books which will be grouped.
+     * @param output builder the groups are printed to.
+     * @param data library with available books which will be grouped.
      */
-    private static void groupByTitle(List<BookEntry> books) {
-        Set<String> listOfTitles = getSetOfTitles(books);
+    private static void groupByTitle(StringBuilder output, LibraryData data) {
+        Set<String> listOfTitles = getSetOfTitles(data);
         Map<String, Set<String>> mapOfTitles = groupByFirstLetter(listOfTitles);
-        printGrouped(mapOfTitles);
+        printGrouped(output, mapOfTitles);
     }
 
     /**
-     * Get set of titles of a given list of books.
-     * Each book is mapped to its title and added to the set.
-     * @param books not null and not empty list of books.
+     * Get set of titles of the books in a library.
+     * Each available book is mapped to its title and added to the set.
+     * @param data library with available books.
      * @return set of all titles in a library.
      */
-    private static Set<String> getSetOfTitles(List<BookEntry> books) {
+    private static Set<String> getSetOfTitles(LibraryData data) {
+        List<BookEntry> books = Utils.getNonNullBookData(data);
         Set<String> titles = new HashSet<>();
-        for (BookEntry book : books) {
-            titles.add(book.getTitle());
+        for (int id = 0; id < books.size(); id++) {
+            if (!data.isRemoved(id)) {
+                titles.add(books.get(id).getTitle());
+            }
         }
         return titles;
     }
@@ -142,41 +163,72 @@ public class GroupCmd extends LibraryCommand {
      * Print {@value GROUP_HEADER} followed by TreeMap key
      * and all elements in a set corresponding to that key.
      *
+     * @param output builder the groups are printed to.
      * @param treeMap a given not null, and not empty TreeMap to be printed.
      */
-    private static void printGrouped(Map<String, Set<String>> treeMap) {
+    private static void printGrouped(StringBuilder output, Map<String, Set<String>> treeMap) {
         for (Map.Entry<String, Set<String>> entry : treeMap.entrySet()) {
-            System.out.println(GROUP_HEADER + entry.getKey());
+            Utils.appendLine(output, GROUP_HEADER + entry.getKey());
             for (String value : entry.getValue()) {
-                System.out.println(value);
+                Utils.appendLine(output, value);
             }
         }
     }
 
     /**
      * Group by author, and prints all groups.
-     * @param books list of books to be grouped and printed.
+     * @param output builder the groups are printed to.
+     * @param data library with available books to be grouped and printed.
      */
-    private static void groupByAuthor(List<BookEntry> books) {
-        Map<String, Set<String>> authorsTitles = getAuthorsTitles(books);
-        printGrouped(authorsTitles);
+    private static void groupByAuthor(StringBuilder output, LibraryData data) {
+        Map<String, Set<String>> authorsTitles = getAuthorsTitles(data);
+        printGrouped(output, authorsTitles);
     }
 
     /**
      * Get a TreeMap where authors are keys, and values are books they have written,
-     * packed into a set.
+     * packed into a set. Authors without a name are skipped.
      *
-     * @param books list of books to be transformed into a TreeMap.
+     * Books of each author are found in the author index, or all books are scanned
+     * if it is not worth building yet, see {@link LibraryData#findIndex}.
+     *
+     * @param data library with available books to be transformed into a TreeMap.
      * @return TreeMap specified above, e.g. {author1 -> [book1, book2], author2 -> [book1]}.
      */
-    private static Map<String, Set<String>> getAuthorsTitles(List<BookEntry> books) {
+    private static Map<String, Set<String>> getAuthorsTitles(LibraryData data) {
+        List<BookEntry> books = Utils.getNonNullBookData(data);
         Map<String, Set<String>> authorsTitles = new TreeMap<>();
-        for (BookEntry book : books) {
-            String title = book.getTitle();
-            for (String author : book.getAuthors()) {
-                Utils.packToMap(author, title, authorsTitles);
+        AuthorIndex index = (AuthorIndex) data.findIndex(IndexType.AUTHOR);
+        if (index == null) {
+            for (int id = 0; id < books.size(); id++) {
+                if (!data.isRemoved(id)) {
+                    packAuthorsTitle(books.get(id), null, authorsTitles);
+                }
+            }
+            return authorsTitles;
+        }
+
+        for (String name : index.getTerms()) {
+            for (int id : index.findAuthor(name)) {
+                if (!data.isRemoved(id)) {
+                    packAuthorsTitle(books.get(id), name, authorsTitles);
+                }
             }
         }
         return authorsTitles;
     }
+
+    /**
+     * Add the title of a book to the set of titles of each of its authors.
+     * @param book book to be added.
+     * @param lowerName lower case name of the authors to be added, or null to add all of them.
+     * @param authorsTitles map of authors to their titles.
+     */
+    private static void packAuthorsTitle(BookEntry book, String lowerName, Map<String, Set<String>> authorsTitles) {
+        for (String author : book.getAuthors()) {
+            if (!author.isEmpty() && (lowerName == null || author.toLowerCase().equals(lowerName))) {
+                Utils.packToMap(author, book.getTitle(), authorsTitles);
+            }
+        }
+    }
 }
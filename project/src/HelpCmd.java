@@ -37,10 +37,30 @@ public class HelpCmd extends LibraryCommand {
         bld.append(padding).append(CommandType.HELP);
         bld.append(padding).append(CommandType.EXIT);
         bld.append(padding).append(CommandType.ADD).append(" path/to/book/data.csv");
-        bld.append(padding).append(CommandType.LIST).append(" [short|long]");
-        bld.append(padding).append(CommandType.SEARCH).append(" <value>");
-        bld.append(padding).append(CommandType.REMOVE).append(" TITLE|AUTHOR <value>");
+        bld.append(padding).append(CommandType.LIST).append(" [short|long] [LIMIT <n>]");
+        bld.append(padding).append(CommandType.SEARCH).append(" <value> [AND|OR|NOT <value>]...");
+        bld.append(padding).append(CommandType.SEARCH).append(" FUZZY <word> [distance]");
+        bld.append(padding).append(CommandType.SEARCH).append(" AUTHOR <value>");
+        bld.append(padding).append(CommandType.SEARCH).append(" SOUNDS <name>");
+        bld.append(padding).append(CommandType.SEARCH).append(" RANKED <words>");
+        bld.append(padding).append(CommandType.SEARCH).append(" REGEX <pattern>");
+        bld.append(padding).append(CommandType.SEARCH).append(" <query> [TOP <k> BY RATING|PAGES] [LIMIT <n>]");
+        bld.append(padding).append(CommandType.FILTER).append(" RATING|PAGES <|<=|=|>=|> <number>...");
+        bld.append(padding).append(CommandType.GET).append(" ISBN <isbn>");
+        bld.append(padding).append(CommandType.REMOVE).append(" TITLE|AUTHOR|ISBN <value>");
+        bld.append(padding).append(CommandType.REMOVE).append(" FILE <path>");
+        bld.append(padding).append(CommandType.REMOVE).append(" WHERE RATING|PAGES <|<=|=|>=|> <number>...");
+        bld.append(padding).append(CommandType.UNDO);
+        bld.append(padding).append(CommandType.REDO);
+        bld.append(padding).append(CommandType.BEGIN);
+        bld.append(padding).append(CommandType.COMMIT);
+        bld.append(padding).append(CommandType.ROLLBACK);
         bld.append(padding).append(CommandType.GROUP).append(" TITLE|AUTHOR");
+        bld.append(padding).append(CommandType.CACHE).append(" [CLEAR]");
+        bld.append(padding).append(CommandType.COMPLETE).append(" TITLE|AUTHOR <prefix>");
+        bld.append(padding).append(CommandType.NEXT).append(" <cursor>");
+        bld.append(padding).append(CommandType.INDEX).append(" CREATE|DROP <type>");
+        bld.append(padding).append(CommandType.INDEX).append(" LIST");
 
         return bld.toString();
     }
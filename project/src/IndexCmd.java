@@ -0,0 +1,134 @@
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Index command used to build or drop a secondary index of a library,
+ * or to list built indexes with their size and the time spent on them,
+ * and missing ones with the books queries scanned for lack of them.
+ */
+public class IndexCmd extends LibraryCommand {
+
+    /** Command argument, which builds an index. */
+    private static final String CREATE_ARG = "CREATE";
+    /** Command argument, which drops an index. */
+    private static final String DROP_ARG = "DROP";
+    /** Command argument, which lists built indexes. */
+    private static final String LIST_ARG = "LIST";
+    /** Gap between arguments in a line given by user. */
+    private static final String PADDING = " ";
+    /** Message displayed after building an index. */
+    private static final String CREATED_MESSAGE = "Index created: ";
+    /** Message displayed if an index to be built already is. */
+    private static final String EXISTS_MESSAGE = "Index already exists: ";
+    /** Message displayed after dropping an index. */
+    private static final String DROPPED_MESSAGE = "Index dropped: ";
+    /** Message displayed if an index to be dropped was not built. */
+    private static final String NOT_FOUND_MESSAGE = "Index not found: ";
+    /** Message displayed if no index is built. */
+    private static final String NO_INDEXES_MESSAGE = "No indexes built.";
+    /** Format of the statistics of a built index: type, size, queries, builds and updates with their times. */
+    private static final String STATS_FORMAT = "%s: %d KB, %d queries, %d builds in %.1f ms, %d updates in %.1f ms";
+    /** Format of the statistics of a missing index: type, queries and books they scanned since it was built. */
+    private static final String SCANS_FORMAT = "%s: not built, %d queries, %d books scanned";
+    /** Bytes of a kilobyte. */
+    private static final int KILOBYTE = 1024;
+    /** Nanoseconds of a millisecond. */
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /** Action of the command, one of {@value CREATE_ARG}, {@value DROP_ARG} or {@value LIST_ARG}. */
+    private String action;
+    /** Type of the index to be built or dropped, null if indexes are listed. */
+    private IndexType type;
+
+    /**
+     * Create an index command.
+     * @param argumentInput argument input is expected to be {@value LIST_ARG}, or
+     *                      {@value CREATE_ARG} or {@value DROP_ARG} followed by an {@link IndexType}.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public IndexCmd(String argumentInput) {
+        super(CommandType.INDEX, argumentInput);
+    }
+
+    /**
+     * Check if the argument is {@value LIST_ARG}, or {@value CREATE_ARG} or {@value DROP_ARG}
+     * followed by a single space and the name of an {@link IndexType}.
+     * Assign them to {@link IndexCmd#action} and {@link IndexCmd#type}.
+     *
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        if (argumentInput.equals(LIST_ARG)) {
+            action = LIST_ARG;
+            return true;
+        }
+
+        String[] arguments = argumentInput.split(PADDING, -1);
+        if (arguments.length != 2 || !arguments[0].equals(CREATE_ARG) && !arguments[0].equals(DROP_ARG)) {
+            return false;
+        }
+        for (IndexType indexType : IndexType.values()) {
+            if (indexType.name().equals(arguments[1])) {
+                action = arguments[0];
+                type = indexType;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build or drop {@link IndexCmd#type}, or list all built indexes.
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        switch (action) {
+            case CREATE_ARG:
+                System.out.println((data.createIndex(type) ? CREATED_MESSAGE : EXISTS_MESSAGE) + type);
+                break;
+            case DROP_ARG:
+                System.out.println((data.dropIndex(type) ? DROPPED_MESSAGE : NOT_FOUND_MESSAGE) + type);
+                break;
+            default:
+                listIndexes(data);
+        }
+    }
+
+    /**
+     * Display statistics of each built index of a library, or a message that there is none,
+     * followed by missing indexes which queries needed.
+     * @param data library whose indexes are listed.
+     */
+    private void listIndexes(LibraryData data) {
+        Map<IndexType, IndexStats> stats = data.getIndexStats();
+        if (stats.values().stream().noneMatch(IndexStats::isBuilt)) {
+            System.out.println(NO_INDEXES_MESSAGE);
+        }
+        for (Map.Entry<IndexType, IndexStats> entry : stats.entrySet()) {
+            IndexStats indexStats = entry.getValue();
+            if (indexStats.isBuilt()) {
+                System.out.println(String.format(STATS_FORMAT, entry.getKey(),
+                        indexStats.getMemoryBytes() / KILOBYTE, indexStats.getQueries(),
+                        indexStats.getBuilds(), indexStats.getBuildNanos() / NANOS_PER_MILLI,
+                        indexStats.getUpdates(), indexStats.getUpdateNanos() / NANOS_PER_MILLI));
+            }
+        }
+        for (Map.Entry<IndexType, IndexStats> entry : stats.entrySet()) {
+            IndexStats indexStats = entry.getValue();
+            if (!indexStats.isBuilt()) {
+                System.out.println(String.format(SCANS_FORMAT, entry.getKey(),
+                        indexStats.getQueries(), indexStats.getScannedBooks()));
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Statistics of a secondary index of a library and of the queries which needed it,
+ * see {@link LibraryData#getIndexStats()}. Times are measured with {@link System#nanoTime()}.
+ */
+public class IndexStats {
+
+    /** {@code true} if the index is currently built. */
+    private boolean built;
+    /** Number of queries which used the index, or scanned books for lack of it. */
+    private long queries;
+    /** Number of books scanned for lack of the index since it was last built. */
+    private long scannedBooks;
+    /** Value of the use counter of the library when the index was last used. */
+    private long lastUsed;
+    /** Number of times the index was built. */
+    private int builds;
+    /** Time spent building the index. */
+    private long buildNanos;
+    /** Number of changes the index was updated for. */
+    private long updates;
+    /** Time spent updating the index. */
+    private long updateNanos;
+    /** Approximate size of the index in bytes when it was last measured. */
+    private long memoryBytes;
+
+    /**
+     * Record a build of the index.
+     * @param nanos time the build took.
+     */
+    public void built(long nanos) {
+        built = true;
+        builds++;
+        buildNanos += nanos;
+        scannedBooks = 0;
+    }
+
+    /** Record that the index was dropped. */
+    public void dropped() {
+        built = false;
+    }
+
+    /**
+     * Record a query which used the index.
+     * @param useCounter value of the use counter of the library, increased for every use of any index.
+     */
+    public void used(long useCounter) {
+        queries++;
+        lastUsed = useCounter;
+    }
+
+    /**
+     * Record a query which scanned books for lack of the index.
+     * @param books number of scanned books.
+     */
+    public void scanned(int books) {
+        queries++;
+        scannedBooks += books;
+    }
+
+    /**
+     * Record an update of the index.
+     * @param nanos time the update took.
+     */
+    public void updated(long nanos) {
+        updates++;
+        updateNanos += nanos;
+    }
+
+    /**
+     * Record the size of the index.
+     * @param bytes approximate size of the index in bytes.
+     */
+    public void measured(long bytes) {
+        memoryBytes = bytes;
+    }
+
+    /**
+     * Check whether the index is currently built.
+     * @return {@link IndexStats#built}.
+     */
+    public boolean isBuilt() {
+        return built;
+    }
+
+    /**
+     * Get number of queries which used the index, or scanned books for lack of it.
+     * @return {@link IndexStats#queries}.
+     */
+    public long getQueries() {
+        return queries;
+    }
+
+    /**
+     * Get number of books scanned for lack of the index since it was last built.
+     * @return {@link IndexStats#scannedBooks}.
+     */
+    public long getScannedBooks() {
+        return scannedBooks;
+    }
+
+    /**
+     * Get value of the use counter of the library when the index was last used.
+     * @return {@link IndexStats#lastUsed}.
+     */
+    public long getLastUsed() {
+        return lastUsed;
+    }
+
+    /**
+     * Get number of times the index was built.
+     * @return {@link IndexStats#builds}.
+     */
+    public int getBuilds() {
+        return builds;
+    }
+
+    /**
+     * Get time spent building the index.
+     * @return {@link IndexStats#buildNanos}.
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * Get number of changes the index was updated for.
+     * @return {@link IndexStats#updates}.
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Get time spent updating the index.
+     * @return {@link IndexStats#updateNanos}.
+     */
+    public long getUpdateNanos() {
+        return updateNanos;
+    }
+
+    /**
+     * Get approximate size of the index.
+     * @return {@link IndexStats#memoryBytes}.
+     */
+    public long getMemoryBytes() {
+        return memoryBytes;
+    }
+}
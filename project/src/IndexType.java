@@ -0,0 +1,55 @@
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+
+/** Secondary indexes a library can keep, see {@link SecondaryIndex}. */
+public enum IndexType {
+    TITLE_WORDS((books, removed) -> TitleWordIndex.build(books)),
+    AUTHOR((books, removed) -> AuthorIndex.build(books)),
+    TITLE((books, removed) -> TitleIndex.build(books)),
+    PHONETIC((books, removed) -> PhoneticAuthorIndex.build(books)),
+    BM25(Bm25Index::build),
+    ISBN(IsbnIndex::build),
+    RATING((books, removed) -> RangeIndex.build(books, NumericField.RATING)),
+    PAGES((books, removed) -> RangeIndex.build(books, NumericField.PAGES));
+
+    /** Function building an index of books, given which of them are removed. */
+    private final BiFunction<List<BookEntry>, IntPredicate, SecondaryIndex> builder;
+
+    /**
+     * Create an index type.
+     * @param builder function building an index of books, given which of them are removed.
+     */
+    IndexType(BiFunction<List<BookEntry>, IntPredicate, SecondaryIndex> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Build an index of this type in bulk.
+     * @param books list of books, ids are positions in this list.
+     * @param removed condition on ids of books which are marked as removed.
+     * @return index of the given books.
+     * @throws NullPointerException if any argument or any book in the list is null.
+     */
+    public SecondaryIndex build(List<BookEntry> books, IntPredicate removed) {
+        Objects.requireNonNull(removed, "Condition must not be null.");
+        return builder.apply(books, removed);
+    }
+
+    /**
+     * Get the type of the range index of a numeric field.
+     * @param field indexed field.
+     * @return type of the index of the field.
+     */
+    public static IndexType of(NumericField field) {
+        switch (field) {
+            case RATING:
+                return RATING;
+            case PAGES:
+                return PAGES;
+            default:
+                throw new IllegalStateException("Unknown field: " + field);
+        }
+    }
+}
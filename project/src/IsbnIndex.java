@@ -0,0 +1,206 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * Hash index from normalized ISBNs to books.
+ *
+ * ISBN-10s are converted to ISBN-13s, so a book can be found by either form.
+ * Leading zeros dropped from an ISBN-10, e.g. {@code 60955422} for {@code 0060955422},
+ * are restored. Entries are not positions in a list, so the index is kept up-to-date
+ * when books are removed, and it does not depend on positions of books.
+ */
+public class IsbnIndex implements SecondaryIndex {
+
+    /** Length of an ISBN-10. */
+    private static final int ISBN_10_LENGTH = 10;
+    /** Length of an ISBN-13. */
+    private static final int ISBN_13_LENGTH = 13;
+    /** Approximate size of the objects kept for each ISBN. */
+    private static final int ENTRY_BYTES = 128;
+    /** Prefix of ISBN-13s converted from ISBN-10s. */
+    private static final String ISBN_10_PREFIX = "978";
+    /** Characters separating groups of an ISBN, which are ignored. */
+    private static final String SEPARATORS = "- ";
+
+    /** Books of each normalized ISBN, usually a single one. */
+    private final Map<String, List<BookEntry>> books;
+
+    /** Create an empty index. */
+    public IsbnIndex() {
+        books = new HashMap<>();
+    }
+
+    /**
+     * Create an index of all given books which are not removed.
+     * @param books list of books, ids are positions in this list.
+     * @param removed condition on ids of books which are removed.
+     * @return index of the given books.
+     * @throws NullPointerException if the list, the condition or any book in the list is null.
+     */
+    public static IsbnIndex build(List<BookEntry> books, IntPredicate removed) {
+        Objects.requireNonNull(books, "List of books must not be null.");
+        Objects.requireNonNull(removed, "Condition must not be null.");
+
+        IsbnIndex index = new IsbnIndex();
+        for (int id = 0; id < books.size(); id++) {
+            if (!removed.test(id)) {
+                index.add(books.get(id));
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Normalize an ISBN. Separators are removed and an ISBN-10, possibly without
+     * leading zeros, is converted to an ISBN-13. Other values are only stripped of separators.
+     *
+     * @param isbn ISBN to be normalized.
+     * @return normalized ISBN.
+     * @throws NullPointerException if the given ISBN is null.
+     */
+    public static String normalize(String isbn) {
+        Objects.requireNonNull(isbn, "Given ISBN must not be null.");
+
+        StringBuilder stripped = new StringBuilder(ISBN_13_LENGTH);
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (SEPARATORS.indexOf(c) == -1) {
+                stripped.append(Character.toUpperCase(c));
+            }
+        }
+
+        String digits = stripped.toString();
+        if (digits.isEmpty() || digits.length() > ISBN_10_LENGTH || !isIsbn10Body(digits)) {
+            return digits;
+        }
+
+        String isbn10 = "0".repeat(ISBN_10_LENGTH - digits.length()) + digits;
+        String body = ISBN_10_PREFIX + isbn10.substring(0, ISBN_10_LENGTH - 1);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+
+    /**
+     * Check whether a value consists of digits, except for a check digit 'X' at its end.
+     * @param value value to be checked.
+     * @return {@code true} if the value may be an ISBN-10, otherwise {@code false}.
+     */
+    private static boolean isIsbn10Body(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean isCheckDigit = i == value.length() - 1 && c == 'X';
+            if ((c < '0' || c > '9') && !isCheckDigit) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Add a book to the index.
+     * @param book book to be added.
+     * @throws NullPointerException if the book is null.
+     */
+    public void add(BookEntry book) {
+        Objects.requireNonNull(book, "Book must not be null.");
+        books.computeIfAbsent(normalize(book.getISBN()), key -> new ArrayList<>(1)).add(book);
+    }
+
+    /**
+     * Remove a book from the index.
+     * @param book book to be removed.
+     * @throws NullPointerException if the book is null.
+     */
+    public void remove(BookEntry book) {
+        Objects.requireNonNull(book, "Book must not be null.");
+
+        String key = normalize(book.getISBN());
+        List<BookEntry> found = books.get(key);
+        if (found != null && found.remove(book) && found.isEmpty()) {
+            books.remove(key);
+        }
+    }
+
+    /**
+     * Add a book appended to the library.
+     * @param id id of the added book.
+     * @param book added book.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean added(int id, BookEntry book) {
+        add(book);
+        return true;
+    }
+
+    /**
+     * Remove a book marked as removed.
+     * @param id id of the removed book.
+     * @param book removed book.
+     */
+    @Override
+    public void removed(int id, BookEntry book) {
+        remove(book);
+    }
+
+    /**
+     * Add a restored book again.
+     * @param id id of the restored book.
+     * @param book restored book.
+     */
+    @Override
+    public void restored(int id, BookEntry book) {
+        add(book);
+    }
+
+    /**
+     * Keep the index after books were dropped, which were already removed from it.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code true}, as the index does not depend on positions.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        return true;
+    }
+
+    /**
+     * Add inserted books again.
+     * @param ids ids of the inserted books.
+     * @param inserted inserted books.
+     * @return {@code true}, as the index does not depend on positions.
+     */
+    @Override
+    public boolean inserted(int[] ids, BookEntry[] inserted) {
+        for (BookEntry book : inserted) {
+            add(book);
+        }
+        return true;
+    }
+
+    /**
+     * Estimate the memory taken by the index.
+     * @return approximate size of the index in bytes.
+     */
+    @Override
+    public long memoryBytes() {
+        return (long) ENTRY_BYTES * books.size();
+    }
+
+    /**
+     * Find all books of an ISBN in either form.
+     * @param isbn ISBN to be searched for.
+     * @return books of the ISBN in order of their addition, empty if there is none.
+     * @throws NullPointerException if the given ISBN is null.
+     */
+    public List<BookEntry> find(String isbn) {
+        return Collections.unmodifiableList(books.getOrDefault(normalize(isbn), Collections.emptyList()));
+    }
+}
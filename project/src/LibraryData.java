@@ -1,7 +1,19 @@
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /** 
  * Class responsible for handling currently loaded
@@ -9,22 +21,1121 @@ import java.util.Objects;
  */
 public class LibraryData {
 
+    /** Minimum number of elements filters are sized for. */
+    private static final int MIN_FILTER_CAPACITY = 64;
+    /** Removed books are compacted once they are more than this fraction of all books. */
+    private static final int COMPACTION_RATIO = 4;
+    /** Maximum number of changes or committed transactions which can be undone. */
+    private static final int MAX_HISTORY = 64;
+    /** Number of scans of all books queries may spend for lack of an index before it is built. */
+    private static final int AUTO_INDEX_SCANS = 4;
+    /** Default memory budget of secondary indexes in bytes. */
+    private static final long DEFAULT_INDEX_MEMORY_BUDGET = 256L * 1024 * 1024;
+
+    /**
+     * Books added or removed by a single change of the library, kept to undo and redo it.
+     * Only the affected books are kept, not a copy of the library.
+     */
+    private static class Change {
+        /** Added or removed books in library order. */
+        private final BookEntry[] entries;
+        /** Positions of the books among available books while they are in the library. */
+        private final int[] positions;
+        /** {@code true} if the books were added, {@code false} if they were removed. */
+        private final boolean added;
+        /** Ids of the books while they are marked as removed, or null if they are not. */
+        private int[] markedIds;
+        /** Number of compactions when the books were marked as removed. */
+        private long markedAt;
+
+        /**
+         * Create a change.
+         * @param entries added or removed books in library order.
+         * @param positions positions of the books among available books while they are in the library.
+         * @param added {@code true} if the books were added, {@code false} if they were removed.
+         */
+        private Change(BookEntry[] entries, int[] positions, boolean added) {
+            this.entries = entries;
+            this.positions = positions;
+            this.added = added;
+        }
+    }
+
+    /**
+     * Books added or removed by an open transaction. They are kept apart from the library,
+     * so reads do not see them, and applied together with all index maintenance on commit.
+     */
+    private static class Delta {
+        /** Ids of available books to be removed. */
+        private final TombstoneSet removed = new TombstoneSet();
+        /** Books to be added in the order they were loaded, without duplicates. */
+        private final Set<BookEntry> added = new LinkedHashSet<>();
+    }
+
     /** Currently loaded book data. */
     private final List<BookEntry> books;
+    /** Results of recent queries, valid for the current {@link LibraryData#version}. */
+    private final QueryCache queryCache;
+    /** Open cursors of paginated results. */
+    private final CursorRegistry cursors;
+    /** Counter increased whenever book data is added or removed. */
+    private long version;
+    /** Counter increased whenever positions of books change. */
+    private long layoutVersion;
+    /** Book list the indexes were built for, they are rebuilt if the list was replaced. */
+    private List<BookEntry> indexedBooks;
+    /** Built secondary indexes, which are notified of every change. Missing ones are built when needed. */
+    private final Map<IndexType, SecondaryIndex> indexes;
+    /** Statistics of each secondary index and its queries since the book list was replaced. */
+    private final Map<IndexType, IndexStats> indexStats;
+    /** Secondary indexes created explicitly, which are never dropped to stay within the memory budget. */
+    private final Set<IndexType> pinnedIndexes;
+    /** Memory budget of secondary indexes in bytes, least recently used ones are dropped beyond it. */
+    private long indexMemoryBudget;
+    /** Counter increased whenever a secondary index is used. */
+    private long indexUses;
+    /** Positions of removed books which are still in {@link LibraryData#books}. */
+    private final TombstoneSet tombstones;
+    /** Number of compactions so far, ids of removed books are only valid until the next one. */
+    private long compactions;
+    /** Groups of changes which can be undone together, most recent first. */
+    private final Deque<List<Change>> undoChanges;
+    /** Undone groups of changes which can be redone, most recently undone first. */
+    private final Deque<List<Change>> redoChanges;
+    /** Changes of the open transaction which are not applied yet, or null if there is none. */
+    private Delta transaction;
+    /** Completions of titles, scored by rating. */
+    private CompletionTrie titleCompletions;
+    /** Completions of names of authors, scored by rating. */
+    private CompletionTrie authorCompletions;
+    /** Filter of titles, null if it has to be rebuilt. */
+    private CountingBloomFilter titleFilter;
+    /** Filter of names of authors, null if it has to be rebuilt. */
+    private CountingBloomFilter authorFilter;
+    /** Filter of book entries, null if it has to be rebuilt. */
+    private CountingBloomFilter entryFilter;
 
     /** Create a new and empty book library. */
     public LibraryData() {
         books = new ArrayList<>();
+        queryCache = new QueryCache();
+        cursors = new CursorRegistry();
+        indexes = new EnumMap<>(IndexType.class);
+        indexStats = new EnumMap<>(IndexType.class);
+        pinnedIndexes = EnumSet.noneOf(IndexType.class);
+        indexMemoryBudget = DEFAULT_INDEX_MEMORY_BUDGET;
+        tombstones = new TombstoneSet();
+        undoChanges = new ArrayDeque<>();
+        redoChanges = new ArrayDeque<>();
+        version = 0;
+        layoutVersion = 0;
     }
 
     /** 
-     * Get all available book entries.
+     * Get all available book entries as an unmodifiable list. If removed entries were
+     * not compacted yet, the list is a copy without them and the library itself is left unchanged.
+     * Commands should read {@link LibraryData#getStoredBooks()} instead, skipping removed entries.
      * @return available book entries
      */
     public List<BookEntry> getBookData() {
+        if (indexedBooks != books || tombstones.isEmpty()) {
+            return Collections.unmodifiableList(books);
+        }
+
+        List<BookEntry> available = new ArrayList<>(getAvailableCount());
+        for (int id = 0; id < books.size(); id++) {
+            if (!tombstones.get(id)) {
+                available.add(books.get(id));
+            }
+        }
+        return Collections.unmodifiableList(available);
+    }
+
+    /**
+     * Get number of available book entries, i.e. stored entries which are not removed.
+     * @return number of available book entries.
+     */
+    public int getAvailableCount() {
+        return indexedBooks == books ? books.size() - tombstones.size() : books.size();
+    }
+
+    /**
+     * Get book entries at their current positions, including removed entries
+     * which were not compacted yet. Ids of books in all indexes and query results
+     * are positions in this list, so readers have to skip removed ones,
+     * see {@link LibraryData#isRemoved(int)}.
+     * @return available and removed book entries.
+     */
+    public List<BookEntry> getStoredBooks() {
         return books;
     }
 
+    /**
+     * Check whether the book at a position of {@link LibraryData#getStoredBooks()} was removed.
+     * @param id position of the book.
+     * @return {@code true} if the book was removed, otherwise {@code false}.
+     */
+    public boolean isRemoved(int id) {
+        return indexedBooks == books && tombstones.get(id);
+    }
+
+    /**
+     * Drop ids of removed books.
+     * @param ids positions of books in {@link LibraryData#getStoredBooks()}.
+     * @return given ids without removed ones, in the same order.
+     * @throws NullPointerException if the given ids are null.
+     */
+    public int[] withoutRemoved(int[] ids) {
+        Objects.requireNonNull(ids, "Given ids must not be null.");
+        if (indexedBooks != books || tombstones.isEmpty()) {
+            return ids;
+        }
+        return Arrays.stream(ids).filter(id -> !tombstones.get(id)).toArray();
+    }
+
+    /**
+     * Get current version of the book data. The version changes
+     * whenever book entries are added or removed.
+     * @return current version of the book data.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get current layout version of the book data. The layout version changes
+     * whenever positions of book entries change, but not when entries are appended,
+     * or marked as removed and restored at their positions.
+     * @return current layout version of the book data.
+     */
+    public long getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Get open cursors of paginated results on this library.
+     * @return cursor registry of this library.
+     */
+    public CursorRegistry getCursors() {
+        return cursors;
+    }
+
+    /**
+     * Get the cache for results of queries on this library.
+     * @return query cache of this library.
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    /**
+     * Get index of words of titles of all books, where an id of a book
+     * is its position in {@link LibraryData#getStoredBooks()}.
+     * The index is rebuilt if positions changed since it was last built.
+     * @return up-to-date index of words of titles.
+     */
+    public TitleWordIndex getTitleWordIndex() {
+        return (TitleWordIndex) index(IndexType.TITLE_WORDS);
+    }
+
+    /**
+     * Get index of names of authors of all books, where an id of a book
+     * is its position in {@link LibraryData#getStoredBooks()}.
+     * @return up-to-date index of names of authors.
+     */
+    public AuthorIndex getAuthorIndex() {
+        return (AuthorIndex) index(IndexType.AUTHOR);
+    }
+
+    /**
+     * Get index of titles of all books, where an id of a book
+     * is its position in {@link LibraryData#getStoredBooks()}.
+     * @return up-to-date index of titles.
+     */
+    public TitleIndex getTitleIndex() {
+        return (TitleIndex) index(IndexType.TITLE);
+    }
+
+    /**
+     * Get index for ranking titles of all books by relevance, where an id of a book
+     * is its position in {@link LibraryData#getStoredBooks()}.
+     * The index is rebuilt if positions changed since it was last built.
+     * @return up-to-date index for ranking titles.
+     */
+    public Bm25Index getBm25Index() {
+        return (Bm25Index) index(IndexType.BM25);
+    }
+
+    /**
+     * Get index of phonetic codes of names of authors of all books, where an id
+     * of a book is its position in {@link LibraryData#getStoredBooks()}.
+     * @return up-to-date index of phonetic codes of names of authors.
+     */
+    public PhoneticAuthorIndex getPhoneticAuthorIndex() {
+        return (PhoneticAuthorIndex) index(IndexType.PHONETIC);
+    }
+
+    /**
+     * Get sorted index of a numeric field of all books, where an id of a book
+     * is its position in {@link LibraryData#getStoredBooks()}.
+     * The index is rebuilt if books were added or removed since it was last built.
+     * @param field indexed field.
+     * @return up-to-date index of the field.
+     * @throws NullPointerException if the given field is null.
+     */
+    public RangeIndex getRangeIndex(NumericField field) {
+        Objects.requireNonNull(field, "Given field must not be null.");
+        return (RangeIndex) index(IndexType.of(field));
+    }
+
+    /**
+     * Get sorted index of a numeric field of all books if it is built or worth building,
+     * see {@link LibraryData#findIndex(IndexType)}.
+     * @param field indexed field.
+     * @return up-to-date index of the field, or {@code null} if the caller has to scan all books.
+     * @throws NullPointerException if the given field is null.
+     */
+    public RangeIndex findRangeIndex(NumericField field) {
+        Objects.requireNonNull(field, "Given field must not be null.");
+        return (RangeIndex) findIndex(IndexType.of(field));
+    }
+
+    /**
+     * Get index of all books by their ISBN.
+     * @return up-to-date index of ISBNs.
+     */
+    public IsbnIndex getIsbnIndex() {
+        return (IsbnIndex) index(IndexType.ISBN);
+    }
+
+    /**
+     * Get a secondary index for a query which could also scan all stored books instead.
+     *
+     * A missing index is not built for a single query. Instead, the scan is charged to it,
+     * and once queries scanned all books {@value AUTO_INDEX_SCANS} times for lack of it,
+     * it is built, so frequent queries speed up without building indexes nobody needs.
+     * Building it then costs about as much as the scans spent so far.
+     *
+     * @param type type of the index.
+     * @return up-to-date index, or {@code null} if the caller has to scan all stored books.
+     * @throws NullPointerException if the given type is null.
+     */
+    public SecondaryIndex findIndex(IndexType type) {
+        SecondaryIndex index = lookUpIndex(type);
+        if (index == null) {
+            scanned(type, books.size());
+        }
+        return index;
+    }
+
+    /**
+     * Get a secondary index if it is built or worth building, see {@link LibraryData#findIndex}.
+     * Unlike there, no scan is charged if the index is missing, so a caller which may stop
+     * scanning early can charge the books it actually scanned, see {@link LibraryData#scanned}.
+     *
+     * @param type type of the index.
+     * @return up-to-date index, or {@code null} if the caller has to scan stored books.
+     * @throws NullPointerException if the given type is null.
+     */
+    private SecondaryIndex lookUpIndex(IndexType type) {
+        Objects.requireNonNull(type, "Given index type must not be null.");
+        ensureIndexes();
+
+        SecondaryIndex index = indexes.get(type);
+        if (index == null) {
+            IndexStats stats = indexStats.computeIfAbsent(type, key -> new IndexStats());
+            // nothing to gain from an index of an empty library
+            if (books.isEmpty() || stats.getScannedBooks() < (long) AUTO_INDEX_SCANS * books.size()) {
+                return null;
+            }
+            index = build(type);
+            enforceMemoryBudget(type);
+        }
+        indexStats.get(type).used(++indexUses);
+        return index;
+    }
+
+    /**
+     * Charge a query which scanned stored books to a missing secondary index.
+     * @param type type of the missing index, looked up before by {@link LibraryData#lookUpIndex}.
+     * @param scannedBooks number of books the query visited.
+     */
+    private void scanned(IndexType type, int scannedBooks) {
+        indexStats.get(type).scanned(scannedBooks);
+    }
+
+    /**
+     * Set the memory budget of secondary indexes. Whenever an index is built or grows
+     * beyond it, least recently used indexes are dropped, except those created explicitly.
+     *
+     * @param bytes memory budget in bytes.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+    public void setIndexMemoryBudget(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("Memory budget must not be negative.");
+        }
+        indexMemoryBudget = bytes;
+        enforceMemoryBudget(null);
+    }
+
+    /**
+     * Build a secondary index unless it is already built. Built indexes are kept
+     * up-to-date by every change, or rebuilt when they are needed after a change
+     * they cannot follow. It is never dropped to stay within the memory budget.
+     *
+     * @param type type of the index.
+     * @return {@code true} if the index was built, {@code false} if it already was.
+     * @throws NullPointerException if the given type is null.
+     */
+    public boolean createIndex(IndexType type) {
+        Objects.requireNonNull(type, "Given index type must not be null.");
+        ensureIndexes();
+
+        pinnedIndexes.add(type);
+        if (indexes.containsKey(type)) {
+            return false;
+        }
+        build(type);
+        enforceMemoryBudget(type);
+        return true;
+    }
+
+    /**
+     * Drop a secondary index to free its memory, together with its statistics.
+     * Queries needing it build it again.
+     *
+     * @param type type of the index.
+     * @return {@code true} if the index was dropped, {@code false} if it was not built.
+     * @throws NullPointerException if the given type is null.
+     */
+    public boolean dropIndex(IndexType type) {
+        Objects.requireNonNull(type, "Given index type must not be null.");
+        ensureIndexes();
+
+        indexStats.remove(type);
+        pinnedIndexes.remove(type);
+        return indexes.remove(type) != null;
+    }
+
+    /**
+     * Get statistics of all secondary indexes which were built or needed by a query,
+     * with the current size of built ones.
+     * @return statistics of each index, in order of index types.
+     */
+    public Map<IndexType, IndexStats> getIndexStats() {
+        ensureIndexes();
+
+        for (Map.Entry<IndexType, SecondaryIndex> entry : indexes.entrySet()) {
+            indexStats.get(entry.getKey()).measured(entry.getValue().memoryBytes());
+        }
+        return Collections.unmodifiableMap(new EnumMap<>(indexStats));
+    }
+
+    /**
+     * Get a secondary index for a query which cannot do without it, building it if it is missing.
+     * @param type type of the index.
+     * @return up-to-date index.
+     */
+    private SecondaryIndex index(IndexType type) {
+        ensureIndexes();
+
+        SecondaryIndex index = indexes.get(type);
+        if (index == null) {
+            index = build(type);
+            enforceMemoryBudget(type);
+        }
+        indexStats.get(type).used(++indexUses);
+        return index;
+    }
+
+    /**
+     * Build a secondary index of all stored books in bulk and keep it.
+     * @param type type of the index.
+     * @return built index.
+     */
+    private SecondaryIndex build(IndexType type) {
+        long start = System.nanoTime();
+        SecondaryIndex index = type.build(books, tombstones::get);
+        indexStats.computeIfAbsent(type, key -> new IndexStats()).built(System.nanoTime() - start);
+        indexes.put(type, index);
+        return index;
+    }
+
+    /**
+     * Drop least recently used secondary indexes while all of them take more memory than
+     * {@link LibraryData#indexMemoryBudget}. Indexes created explicitly are kept.
+     *
+     * @param kept type of an index which is kept as it is about to be used, or null.
+     */
+    private void enforceMemoryBudget(IndexType kept) {
+        long total = 0;
+        for (Map.Entry<IndexType, SecondaryIndex> entry : indexes.entrySet()) {
+            IndexStats stats = indexStats.get(entry.getKey());
+            stats.measured(entry.getValue().memoryBytes());
+            total += stats.getMemoryBytes();
+        }
+
+        while (total > indexMemoryBudget) {
+            IndexType leastUsed = null;
+            for (IndexType type : indexes.keySet()) {
+                boolean droppable = type != kept && !pinnedIndexes.contains(type);
+                if (droppable && (leastUsed == null
+                        || indexStats.get(type).getLastUsed() < indexStats.get(leastUsed).getLastUsed())) {
+                    leastUsed = type;
+                }
+            }
+            if (leastUsed == null) {
+                return;
+            }
+            indexes.remove(leastUsed);
+            IndexStats stats = indexStats.get(leastUsed);
+            stats.dropped();
+            total -= stats.getMemoryBytes();
+        }
+    }
+
+    /**
+     * Notify all built secondary indexes of a change. Indexes which cannot follow
+     * the change are dropped, so they are rebuilt when they are needed.
+     *
+     * @param update update of an index, returning {@code false} if it has to be rebuilt.
+     */
+    private void updateIndexes(Predicate<SecondaryIndex> update) {
+        Iterator<Map.Entry<IndexType, SecondaryIndex>> iterator = indexes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<IndexType, SecondaryIndex> entry = iterator.next();
+            IndexStats stats = indexStats.get(entry.getKey());
+            long start = System.nanoTime();
+            boolean updated = update.test(entry.getValue());
+            stats.updated(System.nanoTime() - start);
+            if (!updated) {
+                iterator.remove();
+                stats.dropped();
+            }
+        }
+    }
+
+    /**
+     * Get completions of titles of all books, scored by rating.
+     * @return up-to-date completions of titles.
+     */
+    public CompletionTrie getTitleCompletions() {
+        ensureIndexes();
+        return titleCompletions;
+    }
+
+    /**
+     * Get completions of names of all authors, scored by rating of their books.
+     * @return up-to-date completions of names of authors.
+     */
+    public CompletionTrie getAuthorCompletions() {
+        ensureIndexes();
+        return authorCompletions;
+    }
+
+    /**
+     * Check whether a book of a given title might be in the library.
+     * @param title title to be checked.
+     * @return {@code false} if there is certainly no book of the title, otherwise {@code true}.
+     * @throws NullPointerException if the given title is null.
+     */
+    public boolean mightContainTitle(String title) {
+        Objects.requireNonNull(title, "Given title must not be null.");
+        ensureFilters();
+        return titleFilter.mightContain(title);
+    }
+
+    /**
+     * Check whether a book of a given author might be in the library.
+     * @param author name of the author to be checked.
+     * @return {@code false} if there is certainly no book of the author, otherwise {@code true}.
+     * @throws NullPointerException if the given author is null.
+     */
+    public boolean mightContainAuthor(String author) {
+        Objects.requireNonNull(author, "Given author must not be null.");
+        ensureFilters();
+        return authorFilter.mightContain(author);
+    }
+
+    /**
+     * Rebuild filters of titles, authors and entries if they are missing.
+     * They are sized for twice the current number of books and rebuilt once full.
+     */
+    private void ensureFilters() {
+        ensureIndexes();
+        if (titleFilter != null) {
+            return;
+        }
+
+        int capacity = Math.max(MIN_FILTER_CAPACITY, 2 * books.size());
+        titleFilter = new CountingBloomFilter(capacity);
+        authorFilter = new CountingBloomFilter(capacity);
+        entryFilter = new CountingBloomFilter(capacity);
+        for (int id = 0; id < books.size(); id++) {
+            if (!tombstones.get(id)) {
+                filterAdded(books.get(id));
+            }
+        }
+    }
+
+    /**
+     * Add a book to all filters.
+     * @param book added book.
+     */
+    private void filterAdded(BookEntry book) {
+        titleFilter.add(book.getTitle());
+        for (String author : book.getAuthors()) {
+            authorFilter.add(author);
+        }
+        entryFilter.add(book);
+    }
+
+    /**
+     * Rebuild all indexes if they were not built for the current book list.
+     * Otherwise, they are kept up-to-date by every change of the list.
+     */
+    private void ensureIndexes() {
+        if (indexedBooks == books) {
+            return;
+        }
+
+        indexedBooks = books;
+        tombstones.clear();
+        // changes refer to positions in a replaced list
+        undoChanges.clear();
+        redoChanges.clear();
+        if (transaction != null) {
+            transaction = new Delta();
+        }
+        indexes.clear();
+        indexStats.clear();
+        pinnedIndexes.clear();
+        titleFilter = null;
+        titleCompletions = new CompletionTrie();
+        authorCompletions = new CompletionTrie();
+        for (BookEntry book : books) {
+            indexRestored(book);
+        }
+    }
+
+    /**
+     * Update completions and filters after a book was added or restored.
+     * Secondary indexes are notified separately.
+     * @param book added or restored book.
+     */
+    private void indexRestored(BookEntry book) {
+        titleCompletions.add(book.getTitle(), book.getRating());
+        for (String author : book.getAuthors()) {
+            authorCompletions.add(author, book.getRating());
+        }
+        if (titleFilter != null) {
+            filterAdded(book);
+            if (titleFilter.isFull() || authorFilter.isFull() || entryFilter.isFull()) {
+                titleFilter = null;
+            }
+        }
+    }
+
+    /**
+     * Update completions and filters after a book was removed.
+     * Secondary indexes are notified separately.
+     * @param book removed book.
+     */
+    private void indexRemoved(BookEntry book) {
+        titleCompletions.remove(book.getTitle(), book.getRating());
+        for (String author : book.getAuthors()) {
+            authorCompletions.remove(author, book.getRating());
+        }
+        if (titleFilter != null) {
+            titleFilter.remove(book.getTitle());
+            for (String author : book.getAuthors()) {
+                authorFilter.remove(author);
+            }
+            entryFilter.remove(book);
+        }
+    }
+
+    /**
+     * Update secondary indexes after books were removed and the following ones moved forward.
+     * Inverted indexes of terms are remapped, the other ones are rebuilt when they are needed.
+     *
+     * @param removed ids of removed books in ascending order.
+     */
+    private void positionsChanged(int[] removed) {
+        updateIndexes(index -> index.compacted(removed));
+    }
+
+    /**
+     * Remove the first book entry matching a given condition.
+     * @param matcher condition a removed entry has to satisfy.
+     * @return {@code true} if an entry was removed, otherwise {@code false}.
+     * @throws NullPointerException if the given matcher is null.
+     */
+    public boolean removeFirst(Predicate<BookEntry> matcher) {
+        Objects.requireNonNull(matcher, "Given matcher must not be null.");
+        ensureIndexes();
+
+        int id = findFirst(matcher);
+        return id < books.size() && removeIds(new int[] {id}) > 0;
+    }
+
+    /**
+     * Find the first available book matching a given condition.
+     * @param matcher condition the book has to satisfy.
+     * @return id of the book, or the number of stored books if no book matches.
+     */
+    private int findFirst(Predicate<BookEntry> matcher) {
+        int id = tombstones.nextClearBit(0);
+        while (id < books.size() && (isStaged(id) || !matcher.test(books.get(id)))) {
+            id = tombstones.nextClearBit(id + 1);
+        }
+        return Math.min(id, books.size());
+    }
+
+    /**
+     * Remove all book entries matching a given condition.
+     * @param matcher condition removed entries have to satisfy.
+     * @return number of removed entries.
+     * @throws NullPointerException if the given matcher is null.
+     */
+    public int removeAll(Predicate<BookEntry> matcher) {
+        Objects.requireNonNull(matcher, "Given matcher must not be null.");
+        ensureIndexes();
+
+        int[] ids = IntStream.range(0, books.size())
+                .filter(id -> !tombstones.get(id) && matcher.test(books.get(id)))
+                .toArray();
+        return removeIds(ids);
+    }
+
+    /**
+     * Remove the first book of a title. Only books found in the title index are visited,
+     * or books are scanned up to the first match without it, see {@link LibraryData#findIndex}.
+     * Only the scanned books are charged to the missing index.
+     *
+     * @param title exact title of the book.
+     * @return {@code true} if an entry was removed, otherwise {@code false}.
+     * @throws NullPointerException if the given title is null.
+     */
+    public boolean removeTitle(String title) {
+        Objects.requireNonNull(title, "Given title must not be null.");
+
+        TitleIndex index = (TitleIndex) lookUpIndex(IndexType.TITLE);
+        if (index == null) {
+            int id = findFirst(book -> book.getTitle().equals(title));
+            scanned(IndexType.TITLE, Math.min(id + 1, books.size()));
+            return id < books.size() && removeIds(new int[] {id}) > 0;
+        }
+        for (int id : index.findTitle(title)) {
+            if (!tombstones.get(id) && !isStaged(id) && books.get(id).getTitle().equals(title)) {
+                return removeIds(new int[] {id}) > 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove the book of an ISBN. It is found in the ISBN index, and its position among
+     * the few books of the same title in the title index, so no other book is visited.
+     * Without these indexes, all books are scanned instead, see {@link LibraryData#findIndex}.
+     * Should several books share the ISBN, all of them are removed.
+     *
+     * @param isbn ISBN of the book in either form, see {@link IsbnIndex#normalize(String)}.
+     * @return number of removed entries.
+     * @throws NullPointerException if the given ISBN is null.
+     */
+    public int removeIsbn(String isbn) {
+        Objects.requireNonNull(isbn, "Given ISBN must not be null.");
+
+        IsbnIndex isbnIndex = (IsbnIndex) findIndex(IndexType.ISBN);
+        if (isbnIndex == null) {
+            String normalized = IsbnIndex.normalize(isbn);
+            return removeAll(book -> IsbnIndex.normalize(book.getISBN()).equals(normalized));
+        }
+        List<BookEntry> found = isbnIndex.find(isbn);
+        if (found.isEmpty()) {
+            return 0;
+        }
+        TitleIndex titleIndex = (TitleIndex) findIndex(IndexType.TITLE);
+        if (titleIndex == null) {
+            return removeAll(book -> found.stream().anyMatch(candidate -> candidate == book));
+        }
+        int[] ids = found.stream()
+                .flatMapToInt(book -> Arrays.stream(titleIndex.findTitle(book.getTitle()))
+                        .filter(id -> !tombstones.get(id) && books.get(id) == book))
+                .toArray();
+        return removeIds(ids);
+    }
+
+    /**
+     * Remove all books of an author. Only books found in the author index are visited,
+     * or all books are scanned without it, see {@link LibraryData#findIndex}.
+     * @param author exact name of the author.
+     * @return number of removed entries.
+     * @throws NullPointerException if the given author is null.
+     */
+    public int removeAuthor(String author) {
+        Objects.requireNonNull(author, "Given author must not be null.");
+
+        AuthorIndex index = (AuthorIndex) findIndex(IndexType.AUTHOR);
+        if (index == null) {
+            return removeAll(book -> Arrays.asList(book.getAuthors()).contains(author));
+        }
+        int[] ids = Arrays.stream(index.findAuthor(author))
+                .filter(id -> !tombstones.get(id) && Arrays.asList(books.get(id).getAuthors()).contains(author))
+                .toArray();
+        return removeIds(ids);
+    }
+
+    /**
+     * Remove books at given positions of {@link LibraryData#getStoredBooks()}
+     * by marking them as removed, so no other book moves.
+     * Readers skip marked books, which are dropped from the list by {@link LibraryData#compact()}
+     * once they make up more than a {@value COMPACTION_RATIO}th of all books, or the plain
+     * list is requested. Each compaction follows at least that many removals, so its cost
+     * is spread over them. Inside a transaction, the books are only staged for removal
+     * until it is committed.
+     *
+     * @param ids ids of books to be removed.
+     * @return number of removed entries which were not removed before.
+     * @throws NullPointerException if the given ids are null.
+     */
+    public int removeIds(int[] ids) {
+        Objects.requireNonNull(ids, "Given ids must not be null.");
+        ensureIndexes();
+
+        int[] removed = Arrays.stream(ids)
+                .filter(id -> !tombstones.get(id) && !isStaged(id))
+                .sorted()
+                .distinct()
+                .toArray();
+        if (removed.length == 0) {
+            return 0;
+        }
+
+        if (transaction != null) {
+            for (int id : removed) {
+                transaction.removed.set(id);
+            }
+            return removed.length;
+        }
+        record(List.of(removed(removed)));
+        changed();
+        return removed.length;
+    }
+
+    /**
+     * Check whether an available book is staged for removal by the open transaction.
+     * @param id position of the book.
+     * @return {@code true} if the book is removed on commit, otherwise {@code false}.
+     */
+    private boolean isStaged(int id) {
+        return transaction != null && transaction.removed.get(id);
+    }
+
+    /**
+     * Mark available books as removed, as a new change.
+     * @param ids ids of the books in ascending order.
+     * @return change removing the books.
+     */
+    private Change removed(int[] ids) {
+        BookEntry[] entries = new BookEntry[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            entries[i] = books.get(ids[i]);
+        }
+        Change change = new Change(entries, availablePositions(ids), false);
+        mark(change, ids);
+        return change;
+    }
+
+    /**
+     * Undo the most recent change of the library which was not undone yet.
+     * A committed transaction is undone as a whole.
+     * Removed books are restored at their former positions.
+     * @return {@code true} if a change was undone, {@code false} if there is none
+     *         or a transaction is open.
+     */
+    public boolean undo() {
+        ensureIndexes();
+        if (transaction != null || undoChanges.isEmpty()) {
+            return false;
+        }
+
+        List<Change> changes = undoChanges.pop();
+        revert(changes);
+        redoChanges.push(changes);
+        changed();
+        return true;
+    }
+
+    /**
+     * Redo the most recently undone change of the library.
+     * Any other change of the library discards all undone changes.
+     * @return {@code true} if a change was redone, {@code false} if there is none
+     *         or a transaction is open.
+     */
+    public boolean redo() {
+        ensureIndexes();
+        if (transaction != null || redoChanges.isEmpty()) {
+            return false;
+        }
+
+        List<Change> changes = redoChanges.pop();
+        for (Change change : changes) {
+            if (change.added) {
+                restore(change);
+            } else {
+                mark(change, ids(change.positions));
+            }
+        }
+        undoChanges.push(changes);
+        changed();
+        return true;
+    }
+
+    /**
+     * Open a transaction. Its changes are staged apart from the library, so reads
+     * do not see them until they are committed, which makes them a single change
+     * for undo, or rolled back. No index is updated while the transaction is open.
+     * @return {@code true} if a transaction was opened, {@code false} if one is already open.
+     */
+    public boolean begin() {
+        ensureIndexes();
+        if (transaction != null) {
+            return false;
+        }
+        transaction = new Delta();
+        return true;
+    }
+
+    /**
+     * Commit the open transaction. All staged removals are marked and all staged
+     * books are added in one step, including the maintenance of indexes,
+     * so they are undone at once.
+     * @return {@code true} if a transaction was committed, {@code false} if none is open.
+     */
+    public boolean commit() {
+        ensureIndexes();
+        if (transaction == null) {
+            return false;
+        }
+
+        Delta delta = transaction;
+        transaction = null;
+        List<Change> changes = new ArrayList<>();
+        if (!delta.removed.isEmpty()) {
+            changes.add(removed(delta.removed.toArray()));
+        }
+        if (!delta.added.isEmpty()) {
+            int first = books.size();
+            for (BookEntry entry : delta.added) {
+                books.add(entry);
+                indexRestored(entry);
+            }
+            changes.add(appended(first));
+        }
+        if (!changes.isEmpty()) {
+            record(changes);
+            changed();
+        }
+        return true;
+    }
+
+    /**
+     * Discard all staged changes of the open transaction and close it.
+     * The library itself was not changed by them.
+     * @return {@code true} if a transaction was rolled back, {@code false} if none is open.
+     */
+    public boolean rollback() {
+        if (transaction == null) {
+            return false;
+        }
+
+        transaction = null;
+        return true;
+    }
+
+    /**
+     * Check whether a transaction is open.
+     * @return {@code true} if a transaction is open, otherwise {@code false}.
+     */
+    public boolean inTransaction() {
+        return transaction != null;
+    }
+
+    /**
+     * Revert changes in reverse order.
+     * @param changes changes in the order they were made.
+     */
+    private void revert(List<Change> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            Change change = changes.get(i);
+            if (change.added) {
+                mark(change, ids(change.positions));
+            } else {
+                restore(change);
+            }
+        }
+    }
+
+    /**
+     * Keep a group of new changes so they can be undone together, and discard undone changes.
+     * @param changes new changes of the library in order.
+     */
+    private void record(List<Change> changes) {
+        undoChanges.push(changes);
+        if (undoChanges.size() > MAX_HISTORY) {
+            undoChanges.removeLast();
+        }
+        redoChanges.clear();
+    }
+
+    /**
+     * Update the version after books were added, removed or restored,
+     * and compact removed books once there are too many of them.
+     * Marking books as removed or restoring them in place keeps all positions,
+     * so only compaction and insertion change the layout version.
+     */
+    private void changed() {
+        version++;
+        compactIfSparse();
+    }
+
+    /** Compact removed books once they are more than a {@value COMPACTION_RATIO}th of all books. */
+    private void compactIfSparse() {
+        if ((long) tombstones.size() * COMPACTION_RATIO > books.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Mark the books of a change as removed.
+     * @param change change whose books are available.
+     * @param ids ids of the books of the change in ascending order.
+     */
+    private void mark(Change change, int[] ids) {
+        for (int id : ids) {
+            tombstones.set(id);
+            indexRemoved(books.get(id));
+        }
+        updateIndexes(index -> {
+            for (int id : ids) {
+                index.removed(id, books.get(id));
+            }
+            return true;
+        });
+        change.markedIds = ids;
+        change.markedAt = compactions;
+    }
+
+    /**
+     * Make the books of a change available again. If the list was not compacted since
+     * they were marked as removed, only their marks are cleared. Otherwise, they are
+     * inserted at their former positions in a single pass over the list.
+     *
+     * @param change change whose books are removed.
+     */
+    private void restore(Change change) {
+        if (change.markedIds != null && change.markedAt == compactions) {
+            int[] ids = change.markedIds;
+            for (int id : ids) {
+                tombstones.clear(id);
+            }
+            updateIndexes(index -> {
+                for (int id : ids) {
+                    index.restored(id, books.get(id));
+                }
+                return true;
+            });
+        } else {
+            compact();
+            insert(change.entries, change.positions);
+        }
+        change.markedIds = null;
+        for (BookEntry book : change.entries) {
+            indexRestored(book);
+        }
+    }
+
+    /**
+     * Insert books into the compacted list, moving every following book only once.
+     * Secondary indexes which cannot follow are rebuilt when they are needed.
+     *
+     * @param entries books to be inserted.
+     * @param positions positions of the books after insertion in ascending order.
+     */
+    private void insert(BookEntry[] entries, int[] positions) {
+        int read = books.size() - 1;
+        books.addAll(Collections.nCopies(entries.length, null));
+        for (int i = entries.length - 1, write = books.size() - 1; i >= 0; write--) {
+            if (positions[i] == write) {
+                books.set(write, entries[i--]);
+            } else {
+                books.set(write, books.get(read--));
+            }
+        }
+
+        updateIndexes(index -> index.inserted(positions, entries));
+        layoutVersion++;
+    }
+
+    /**
+     * Convert ids of available books to their positions among available books.
+     * @param ids ids of available books in ascending order.
+     * @return positions of the books without removed books before them.
+     */
+    private int[] availablePositions(int[] ids) {
+        int[] positions = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            positions[i] = ids[i] - tombstones.countBefore(ids[i]);
+        }
+        return positions;
+    }
+
+    /**
+     * Convert positions among available books to ids of these books.
+     * @param positions positions among available books in ascending order.
+     * @return ids of the books at the positions.
+     */
+    private int[] ids(int[] positions) {
+        int[] ids = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            ids[i] = tombstones.findUnmarked(positions[i]);
+        }
+        return ids;
+    }
+
+    /**
+     * Drop all removed books from the list in a single pass, which moves every
+     * following book only once, and update positional indexes accordingly.
+     */
+    private void compact() {
+        if (indexedBooks != books) {
+            // positions refer to a replaced list
+            tombstones.clear();
+        }
+        if (tombstones.isEmpty()) {
+            return;
+        }
+
+        int[] removed = tombstones.toArray();
+        tombstones.clear();
+        int write = removed[0];
+        int next = 0;
+        for (int read = removed[0]; read < books.size(); read++) {
+            if (next < removed.length && removed[next] == read) {
+                next++;
+            } else {
+                books.set(write++, books.get(read));
+            }
+        }
+        books.subList(write, books.size()).clear();
+        positionsChanged(removed);
+        compactions++;
+        layoutVersion++;
+    }
+
     /**
      * Initiate book data loading for the given path.
      * @param libraryFile specified path to book data file
@@ -53,21 +1164,73 @@ public class LibraryData {
      * entries already loaded.
      * 
      * Duplicate entries will be discarded (This requires .equals to be
-     * implemented for BookEntry).
+     * implemented for BookEntry). The list is only searched for entries
+     * which might be contained according to the entry filter.
+     * Secondary indexes are updated once for all added entries, or rebuilt in bulk
+     * if there are more added entries than entries already loaded.
+     * Inside a transaction, the entries are only staged until it is committed.
      * 
      * @param loaded list of book entries to be merged with data already loaded
      * @return number of book entries added to the library
      */
     private int mergeEntries(List<BookEntry> loaded) {
-        int count = 0;
+        ensureIndexes();
+        int first = books.size();
+        int staged = transaction == null ? 0 : transaction.added.size();
         for (BookEntry entry : loaded) {
-            if (!books.contains(entry)) {
-                books.add(entry);
-                count++;
-            } else {
+            // filters are dropped once full
+            ensureFilters();
+            if ((entryFilter.mightContain(entry) && isAvailable(entry))
+                    || (transaction != null && !transaction.added.add(entry))) {
                 System.out.println("Duplicate entry found for book: " + entry);
+            } else if (transaction == null) {
+                books.add(entry);
+                indexRestored(entry);
             }
         }
+
+        if (transaction != null) {
+            return transaction.added.size() - staged;
+        }
+        int count = books.size() - first;
+        if (count > 0) {
+            record(List.of(appended(first)));
+            version++;
+        }
         return count;
     }
+
+    /**
+     * Update secondary indexes for books appended to the list, as a new change.
+     * @param first id of the first appended book, at least one book was appended.
+     * @return change adding the books.
+     */
+    private Change appended(int first) {
+        int count = books.size() - first;
+        if (count > first) {
+            for (IndexType type : new ArrayList<>(indexes.keySet())) {
+                build(type);
+            }
+        } else {
+            List<BookEntry> added = books.subList(first, books.size());
+            updateIndexes(index -> index.addedAll(first, added));
+        }
+        enforceMemoryBudget(null);
+        BookEntry[] entries = books.subList(first, books.size()).toArray(new BookEntry[0]);
+        return new Change(entries, availablePositions(IntStream.range(first, books.size()).toArray()), true);
+    }
+
+    /**
+     * Check whether a book equal to the given one is available, i.e. in the list and not removed.
+     * @param entry book to be searched for.
+     * @return {@code true} if an equal book is available, otherwise {@code false}.
+     */
+    private boolean isAvailable(BookEntry entry) {
+        for (int id = tombstones.nextClearBit(0); id < books.size(); id = tombstones.nextClearBit(id + 1)) {
+            if (books.get(id).equals(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
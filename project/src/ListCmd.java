@@ -1,5 +1,6 @@
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
  * List command used to show all entries in a library.
@@ -14,14 +15,21 @@ public class ListCmd extends LibraryCommand {
     private static final String EMPTY_MESSAGE = "The library has no book entries.";
     /** Message displayed when there are some books (n) in a library, of the form "n"+HEADER. */
     private static final String HEADER = " books in library:";
+    /** Keyword followed by the number of books per page. */
+    private static final String LIMIT_KEYWORD = "LIMIT";
+    /** Gap between arguments in a line given by user. */
+    private static final String PADDING = " ";
 
     /** Instance mode of displaying all books, either {@value SHORT_ARG} or {@value LONG_ARG}. */
     private String mode;
+    /** Maximum number of books per page, or {@code 0} if all books are shown at once. */
+    private int limit;
 
     /**
      * Create a list method.
      * @param argumentInput argument input is expected to be blank,
-     *                      or {@value SHORT_ARG}, or {@value LONG_ARG}.
+     *                      or {@value SHORT_ARG}, or {@value LONG_ARG}, optionally
+     *                      followed by {@value LIMIT_KEYWORD} and a page size.
      * @throws IllegalArgumentException if given arguments are invalid.
      * @throws NullPointerException if given arguments are null.
      * @see LibraryCommand#LibraryCommand for errors handling.
@@ -32,9 +40,10 @@ public class ListCmd extends LibraryCommand {
     }
 
     /**
-     * Check if an argument is blank, {@value SHORT_ARG}, or {@value LONG_ARG}.
+     * Check if an argument is blank, {@value SHORT_ARG}, or {@value LONG_ARG},
+     * optionally followed by {@value LIMIT_KEYWORD} and a positive page size.
      *
-     * Set an instance field {@link ListCmd#mode} according to that.
+     * Set instance fields {@link ListCmd#mode} and {@link ListCmd#limit} according to that.
      * Blank arguments is considered as {@value SHORT_ARG}.
      *
      * @param argumentInput argument input list command.
@@ -44,10 +53,21 @@ public class ListCmd extends LibraryCommand {
     protected boolean parseArguments(String argumentInput) {
         Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
 
-        if (argumentInput.equals(SHORT_ARG) || argumentInput.isBlank()) {
+        String modeInput = argumentInput;
+        limit = 0;
+        int limitStart = argumentInput.indexOf(LIMIT_KEYWORD + PADDING);
+        if (limitStart != -1 && (limitStart == 0 || argumentInput.startsWith(PADDING, limitStart - 1))) {
+            limit = Utils.parsePositiveInt(argumentInput.substring(limitStart + LIMIT_KEYWORD.length() + PADDING.length()));
+            if (limit <= 0) {
+                return false;
+            }
+            modeInput = argumentInput.substring(0, Math.max(0, limitStart - PADDING.length()));
+        }
+
+        if (modeInput.equals(SHORT_ARG) || modeInput.isBlank()) {
             mode = SHORT_ARG;
             return true;
-        } else if (argumentInput.equals(LONG_ARG)){
+        } else if (modeInput.equals(LONG_ARG)){
             mode = LONG_ARG;
             return true;
         } else {
@@ -56,7 +76,9 @@ public class ListCmd extends LibraryCommand {
     }
 
     /**
-     * Display all books in a library.
+     * Display all books in a library. Repeated listings of an unchanged
+     * library are answered from its {@link QueryCache}. If {@link ListCmd#limit}
+     * is given, only the first page is displayed and a cursor for the next one is opened.
      * @param data book data to be considered for command execution.
      * @throws NullPointerException if a given argument is null, instance mode is null,
      *                              a list of books is null, or a book in a list is null.
@@ -66,43 +88,91 @@ public class ListCmd extends LibraryCommand {
         Objects.requireNonNull(data, "Library data must not be null.");
         Objects.requireNonNull(mode, "Mode must not be null.");
 
+        if (limit > 0) {
+            System.out.print(renderFirstPage(data));
+        } else {
+            String cacheKey = getType() + " " + mode;
+            System.out.print(data.getQueryCache().getOrRender(cacheKey, data.getVersion(), () -> render(data)));
+        }
+    }
+
+    /**
+     * Render the first page of books in a library and open a cursor for the next one.
+     * The cursor walks the stored books up to the current end, skipping removed ones,
+     * so only the books of a page are visited.
+     * @param data library to be listed.
+     * @return rendered output of the command.
+     */
+    private String renderFirstPage(LibraryData data) {
+        int available = data.getAvailableCount();
+        StringBuilder output = new StringBuilder();
+
+        if (available == 0) {
+            Utils.appendLine(output, EMPTY_MESSAGE);
+        } else {
+            headerPrint(output, available);
+            CursorRegistry cursors = data.getCursors();
+            ResultCursor cursor = cursors.open(IntStream.range(0, data.getStoredBooks().size()).iterator(), limit,
+                    mode.equals(LONG_ARG), data.getLayoutVersion());
+            output.append(cursors.renderPage(cursor, data));
+        }
+        return output.toString();
+    }
+
+    /**
+     * Render all books in a library according to {@link ListCmd#mode}.
+     * Removed books which were not compacted yet are skipped.
+     * @param data library to be listed.
+     * @return rendered output of the command.
+     */
+    private String render(LibraryData data) {
         List<BookEntry> books = Utils.getNonNullBookData(data);
+        int available = data.getAvailableCount();
+        StringBuilder output = new StringBuilder();
 
-        if (books.isEmpty()) {
-            System.out.println(EMPTY_MESSAGE);
+        if (available == 0) {
+            Utils.appendLine(output, EMPTY_MESSAGE);
         } else {
-            headerPrint(books);
-            for (BookEntry book : books) {
+            headerPrint(output, available);
+            for (int id = 0; id < books.size(); id++) {
+               if (data.isRemoved(id)) {
+                   continue;
+               }
+               BookEntry book = books.get(id);
                if (mode.equals(SHORT_ARG)) {
-                   shortPrint(book);
+                   shortPrint(output, book);
                } else {
-                   longPrint(book);
+                   longPrint(output, book);
                }
             }
         }
+        return output.toString();
     }
 
     /**
      * Print header with a number of books in a library.
-     * @param books list of all books in a library which is not null.
+     * @param output builder the header is printed to.
+     * @param count number of available books in a library.
      */
-    private static void headerPrint(List<BookEntry> books) {
-        System.out.println(books.size() + HEADER);
+    private static void headerPrint(StringBuilder output, int count) {
+        Utils.appendLine(output, count + HEADER);
     }
 
     /**
      * Print a book in a shorter form (only titles).
+     * @param output builder the book is printed to.
      * @param book a book in a library which is not null.
      */
-    private static void shortPrint(BookEntry book) {
-        System.out.println(book.getTitle());
+    private static void shortPrint(StringBuilder output, BookEntry book) {
+        Utils.appendLine(output, book.getTitle());
     }
 
     /**
      * Print a book in a longer form - the entire {@link BookEntry#toString}.
+     * @param output builder the book is printed to.
      * @param book a book in a library which is not null.
      */
-    private static void longPrint(BookEntry book) {
-        System.out.println(book);
+    private static void longPrint(StringBuilder output, BookEntry book) {
+        Utils.appendLine(output, book);
     }
 }
@@ -0,0 +1,63 @@
+import java.util.Objects;
+
+/**
+ * Next command used to display the next page of a paginated {@link SearchCmd} or {@link ListCmd}.
+ */
+public class NextCmd extends LibraryCommand {
+
+    /** Message displayed if no cursor with a given token is open. */
+    private static final String UNKNOWN_CURSOR_MESSAGE = "Unknown or finished cursor: ";
+    /** Message displayed if the library changed, so that the cursor cannot continue. */
+    private static final String EXPIRED_CURSOR_MESSAGE = "Library changed, cursor expired: ";
+
+    /** Token of the cursor to be continued. */
+    private String token;
+
+    /**
+     * Create a next command.
+     * @param argumentInput argument input is expected to be a token of a cursor.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public NextCmd(String argumentInput) {
+        super(CommandType.NEXT, argumentInput);
+    }
+
+    /**
+     * Check if an argument is a single non-blank word and assign it to {@link NextCmd#token}.
+     * @param argumentInput argument input for this command.
+     * @return {@code true} if the argument is valid, otherwise {@code false}.
+     */
+    @Override
+    protected boolean parseArguments(String argumentInput) {
+        Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
+
+        token = argumentInput;
+        return !argumentInput.isBlank() && !argumentInput.contains(" ");
+    }
+
+    /**
+     * Display the next page of the cursor with {@link NextCmd#token}. Only the books
+     * up to the last result of this page are visited. Appended books do not affect a cursor and removed books
+     * are skipped, but any other change of book positions expires it.
+     *
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+        CursorRegistry cursors = data.getCursors();
+        ResultCursor cursor = cursors.get(token);
+
+        if (cursor == null) {
+            System.out.println(UNKNOWN_CURSOR_MESSAGE + token);
+        } else if (!cursor.isValidFor(data.getLayoutVersion())) {
+            cursors.close(cursor);
+            System.out.println(EXPIRED_CURSOR_MESSAGE + token);
+        } else {
+            System.out.print(cursors.renderPage(cursor, data));
+        }
+    }
+}
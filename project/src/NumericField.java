@@ -0,0 +1,21 @@
+/** Numeric book's fields which can be arguments for commands. */
+public enum NumericField {
+    RATING,
+    PAGES;
+
+    /**
+     * Get value of this field of a book.
+     * @param book book whose value is returned.
+     * @return rating or number of pages of the book.
+     */
+    public double of(BookEntry book) {
+        switch (this) {
+            case RATING:
+                return book.getRating();
+            case PAGES:
+                return book.getPages();
+            default:
+                throw new IllegalStateException("Unknown field: " + this);
+        }
+    }
+}
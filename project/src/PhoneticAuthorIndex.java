@@ -0,0 +1,174 @@
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index from Soundex codes of words of names of authors to ids of their books,
+ * so differently spelled names which sound alike, e.g. "Tolstoy" and "Tolstoi", share codes.
+ */
+public class PhoneticAuthorIndex extends TermIndex {
+
+    /** Delimiter between words of a name. */
+    private static final String WORD_DELIMITER = "\\s+";
+    /** Length of a Soundex code. */
+    private static final int CODE_LENGTH = 4;
+    /** Soundex digit of each letter from 'a' to 'z', '0' for letters without a digit. */
+    private static final String DIGITS = "01230120022455012623010202";
+    /** Letters which do not separate equal digits. */
+    private static final String SILENT_LETTERS = "hw";
+    /** Approximate size of an entry of the memo of codes, besides the characters of the name and its codes. */
+    private static final int MEMO_ENTRY_OVERHEAD_BYTES = 96;
+    /** Approximate size of a code in the memo, besides its characters. */
+    private static final int CODE_OVERHEAD_BYTES = 48;
+
+    /**
+     * Codes of each distinct name of an author, so each name is encoded only once.
+     * Names of removed books stay until the library is compacted, then the memo is cleared.
+     */
+    private final Map<String, String[]> codesByAuthor;
+
+    /** Create an empty index. */
+    public PhoneticAuthorIndex() {
+        codesByAuthor = new HashMap<>();
+    }
+
+    /**
+     * Create an index of all given books.
+     * @param books list of books, ids are positions in this list.
+     * @return index of the given books.
+     * @throws NullPointerException if the list or any book in it is null.
+     */
+    public static PhoneticAuthorIndex build(List<BookEntry> books) {
+        PhoneticAuthorIndex index = new PhoneticAuthorIndex();
+        index.addAll(books);
+        return index;
+    }
+
+    /**
+     * Get Soundex codes of all words of a name.
+     * @param name name to be encoded.
+     * @return codes of the words, empty for words without any letter.
+     */
+    public static String[] codes(String name) {
+        String[] words = name.strip().split(WORD_DELIMITER);
+        String[] codes = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            codes[i] = soundex(words[i]);
+        }
+        return codes;
+    }
+
+    /**
+     * Check whether a name has a phonetic code, i.e. contains any latin letter.
+     * @param name name to be checked.
+     * @return {@code true} if any word of the name has a code, otherwise {@code false}.
+     */
+    public static boolean isEncodable(String name) {
+        for (String code : codes(name)) {
+            if (!code.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the Soundex code of a word, i.e. its first letter followed by three digits
+     * for the following consonants. Accents are ignored, other characters which are
+     * not latin letters are skipped.
+     *
+     * @param word word to be encoded.
+     * @return upper case code of the word, or an empty string if it has no letter.
+     */
+    public static String soundex(String word) {
+        String letters = Normalizer.normalize(word, Normalizer.Form.NFD).toLowerCase();
+        StringBuilder code = new StringBuilder(CODE_LENGTH);
+        char lastDigit = 0;
+        for (int i = 0; i < letters.length() && code.length() < CODE_LENGTH; i++) {
+            char letter = letters.charAt(i);
+            if (letter < 'a' || letter > 'z') {
+                continue;
+            }
+
+            char digit = DIGITS.charAt(letter - 'a');
+            if (code.length() == 0) {
+                code.append(Character.toUpperCase(letter));
+            } else if (digit != '0' && digit != lastDigit) {
+                code.append(digit);
+            }
+            if (SILENT_LETTERS.indexOf(letter) == -1) {
+                lastDigit = digit;
+            }
+        }
+
+        if (code.length() == 0) {
+            return "";
+        }
+        while (code.length() < CODE_LENGTH) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Get Soundex codes of words of names of authors of a book.
+     * @param book book to be indexed.
+     * @return codes of the words.
+     */
+    @Override
+    protected String[] terms(BookEntry book) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (String author : book.getAuthors()) {
+            for (String code : codesByAuthor.computeIfAbsent(author, PhoneticAuthorIndex::codes)) {
+                codes.add(code);
+            }
+        }
+        return codes.toArray(new String[0]);
+    }
+
+    /**
+     * Replace ids after books were dropped from the library, see {@link TermIndex#remap(int[])}.
+     * The memo of codes is cleared, so it does not keep names of dropped books.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        codesByAuthor.clear();
+        return super.compacted(removed);
+    }
+
+    /**
+     * Estimate the memory taken by the terms and posting lists of the index and its memo of codes.
+     * @return approximate size of the index in bytes.
+     */
+    @Override
+    public long memoryBytes() {
+        long bytes = super.memoryBytes();
+        for (Map.Entry<String, String[]> entry : codesByAuthor.entrySet()) {
+            bytes += MEMO_ENTRY_OVERHEAD_BYTES + entry.getKey().length()
+                    + (long) (CODE_OVERHEAD_BYTES + CODE_LENGTH) * entry.getValue().length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Find all books where every word of a given name sounds like a word
+     * of a name of one of their authors.
+     * @param name name to be searched for.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] findSounding(String name) {
+        int[] result = null;
+        for (String code : codes(name)) {
+            if (!code.isEmpty()) {
+                int[] found = find(code);
+                result = result == null ? found : PostingList.intersect(result, found);
+            }
+        }
+        return result == null ? new int[0] : result;
+    }
+}
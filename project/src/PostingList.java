@@ -0,0 +1,120 @@
+import java.util.Arrays;
+
+/**
+ * Growable list of book ids in ascending order, together with
+ * set operations on sorted id arrays used to combine such lists.
+ */
+public class PostingList {
+
+    /** Capacity of a new posting list. */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /** Ids of the list, only the first {@link PostingList#size} are valid. */
+    private int[] ids;
+    /** Number of ids in the list. */
+    private int size;
+
+    /** Create an empty posting list. */
+    public PostingList() {
+        ids = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Append an id to the list. Appending the last id again has no effect.
+     * @param id id not less than any id in the list.
+     * @throws IllegalArgumentException if the id is less than the last id in the list.
+     */
+    public void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            if (ids[size - 1] == id) {
+                return;
+            }
+            throw new IllegalArgumentException("Ids must be added in ascending order.");
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * Get number of ids in the list.
+     * @return number of ids.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get ids of the list.
+     * @return new array of ids in ascending order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Replace ids after books were removed and the following ones moved forward.
+     * Ids of removed books are dropped, other ids are decreased by the number
+     * of removed books before them.
+     *
+     * @param removed ids of removed books in ascending order.
+     */
+    public void remap(int[] removed) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int position = Arrays.binarySearch(removed, ids[i]);
+            if (position < 0) {
+                ids[kept++] = ids[i] + position + 1;
+            }
+        }
+        size = kept;
+    }
+
+    /**
+     * Intersect two sorted id arrays.
+     * @param first ids in ascending order.
+     * @param second ids in ascending order.
+     * @return ids contained in both arrays, in ascending order.
+     */
+    public static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[k++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    /**
+     * Merge two sorted id arrays.
+     * @param first ids in ascending order.
+     * @param second ids in ascending order.
+     * @return ids contained in any of the arrays, in ascending order and without duplicates.
+     */
+    public static int[] union(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int i = 0, j = 0, k = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                result[k++] = first[i++];
+            } else if (i == first.length || first[i] > second[j]) {
+                result[k++] = second[j++];
+            } else {
+                result[k++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
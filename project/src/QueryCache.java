@@ -0,0 +1,110 @@
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of rendered query results with least-recently-used eviction.
+ *
+ * Entries are only valid for the library version they were rendered for.
+ * As soon as a different version is requested, the whole cache is dropped.
+ */
+public class QueryCache {
+
+    /** Maximum number of results kept by default. */
+    private static final int DEFAULT_CAPACITY = 128;
+    /** Load factor of the underlying map. */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /** Maximum number of cached results. */
+    private final int capacity;
+    /** Rendered results, ordered from least to most recently used. */
+    private final Map<String, String> results;
+    /** Library version all cached results belong to. */
+    private long epoch;
+    /** Number of lookups answered from the cache. */
+    private long hits;
+    /** Number of lookups which required rendering. */
+    private long misses;
+
+    /** Create an empty cache with the default capacity. */
+    public QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create an empty cache.
+     * @param capacity maximum number of cached results.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public QueryCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Cache capacity must be positive.");
+        }
+        this.capacity = capacity;
+        results = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > QueryCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Get the cached result of a query or render and cache it.
+     *
+     * @param key parsed query, e.g. "SEARCH potter".
+     * @param version current version of the library.
+     * @param renderer renders the result if it is not cached.
+     * @return rendered result of the query.
+     * @throws NullPointerException if key or renderer is null, or the renderer returns null.
+     */
+    public String getOrRender(String key, long version, Supplier<String> renderer) {
+        Objects.requireNonNull(key, "Cache key must not be null.");
+        Objects.requireNonNull(renderer, "Renderer must not be null.");
+
+        if (version != epoch) {
+            results.clear();
+            epoch = version;
+        }
+
+        String result = results.get(key);
+        if (result != null) {
+            hits++;
+        } else {
+            misses++;
+            result = Objects.requireNonNull(renderer.get(), "Rendered result must not be null.");
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    /** Remove all cached results. Hit and miss counts are kept. */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Get number of currently cached results.
+     * @return number of cached results.
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Get number of lookups answered from the cache.
+     * @return {@link QueryCache#hits}.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get number of lookups which had to be rendered.
+     * @return {@link QueryCache#misses}.
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,154 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Index of one {@link NumericField} of all books, sorted by value.
+ *
+ * Values are kept as floats next to the ids of their books, so the index takes
+ * eight bytes per book. Floats represent all ratings and page counts below
+ * 2^24 exactly. A range of values is found by binary search.
+ * The sorted arrays cannot follow added or dropped books, so the index is rebuilt then.
+ */
+public class RangeIndex implements SecondaryIndex {
+
+    /** Mask of the lower half of a long. */
+    private static final long ID_MASK = 0xFFFFFFFFL;
+    /** Bits of a float except its sign. */
+    private static final int MAGNITUDE_BITS = 0x7FFFFFFF;
+    /** Number of bits of an int. */
+    private static final int INT_BITS = 32;
+
+    /** Values of all books in ascending order. */
+    private final float[] values;
+    /** Ids of the books of {@link RangeIndex#values}, in the same order. */
+    private final int[] ids;
+
+    /**
+     * Create an index.
+     * @param values values of all books in ascending order.
+     * @param ids ids of the books of the values.
+     */
+    private RangeIndex(float[] values, int[] ids) {
+        this.values = values;
+        this.ids = ids;
+    }
+
+    /**
+     * Create an index of a field of all given books.
+     * Books with equal values are ordered by id.
+     *
+     * @param books list of books, ids are positions in this list.
+     * @param field indexed field.
+     * @return index of the given books.
+     * @throws NullPointerException if the list, the field or any book in the list is null.
+     */
+    public static RangeIndex build(List<BookEntry> books, NumericField field) {
+        Objects.requireNonNull(books, "List of books must not be null.");
+        Objects.requireNonNull(field, "Field must not be null.");
+
+        // sort value and id pairs packed into longs, ordered by value first
+        long[] entries = new long[books.size()];
+        for (int id = 0; id < entries.length; id++) {
+            int bits = Float.floatToIntBits((float) field.of(books.get(id)));
+            bits ^= (bits >> (INT_BITS - 1)) & MAGNITUDE_BITS;
+            entries[id] = ((long) bits << INT_BITS) | id;
+        }
+        Arrays.sort(entries);
+
+        float[] values = new float[entries.length];
+        int[] ids = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            int bits = (int) (entries[i] >> INT_BITS);
+            bits ^= (bits >> (INT_BITS - 1)) & MAGNITUDE_BITS;
+            values[i] = Float.intBitsToFloat(bits);
+            ids[i] = (int) (entries[i] & ID_MASK);
+        }
+        return new RangeIndex(values, ids);
+    }
+
+    /**
+     * Keep the index after a book was appended.
+     * @param id id of the added book.
+     * @param book added book.
+     * @return {@code false}, as the index has to be rebuilt.
+     */
+    @Override
+    public boolean added(int id, BookEntry book) {
+        return false;
+    }
+
+    /**
+     * Keep the index after books were dropped from the library.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code false}, as the index has to be rebuilt.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        return false;
+    }
+
+    /**
+     * Get the memory taken by the values and ids of the index.
+     * @return size of the index in bytes.
+     */
+    @Override
+    public long memoryBytes() {
+        return (long) (Float.BYTES + Integer.BYTES) * ids.length;
+    }
+
+    /**
+     * Count books with a value in a given range.
+     * @param lower lower bound of the range.
+     * @param lowerInclusive {@code true} if the lower bound belongs to the range.
+     * @param upper upper bound of the range.
+     * @param upperInclusive {@code true} if the upper bound belongs to the range.
+     * @return number of books in the range.
+     */
+    public int count(double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+        int from = firstAbove(lower, lowerInclusive);
+        int to = firstAbove(upper, !upperInclusive);
+        return Math.max(0, to - from);
+    }
+
+    /**
+     * Find all books with a value in a given range.
+     * @param lower lower bound of the range.
+     * @param lowerInclusive {@code true} if the lower bound belongs to the range.
+     * @param upper upper bound of the range.
+     * @param upperInclusive {@code true} if the upper bound belongs to the range.
+     * @return ids of books in the range in ascending order.
+     */
+    public int[] find(double lower, boolean lowerInclusive, double upper, boolean upperInclusive) {
+        int from = firstAbove(lower, lowerInclusive);
+        int to = firstAbove(upper, !upperInclusive);
+        if (to <= from) {
+            return new int[0];
+        }
+
+        int[] found = Arrays.copyOfRange(ids, from, to);
+        Arrays.sort(found);
+        return found;
+    }
+
+    /**
+     * Find the first position of a value greater than a given bound.
+     * @param bound bound compared to the values.
+     * @param orEqual {@code true} to find the first value greater than or equal to the bound.
+     * @return first such position, or the number of books if there is none.
+     */
+    private int firstAbove(double bound, boolean orEqual) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            double value = values[middle];
+            if (value > bound || orEqual && value == bound) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,244 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Query for books with numeric fields in given ranges, e.g. {@code RATING >= 4.3 PAGES < 300}.
+ *
+ * Each condition consists of a {@link NumericField}, one of the operators
+ * {@code <}, {@code <=}, {@code =}, {@code >=} or {@code >}, and a number.
+ * All conditions have to hold. Conditions on the same field narrow its range.
+ */
+public class RangeQuery implements BookQuery {
+
+    /** Number of tokens of a condition. */
+    private static final int CONDITION_LENGTH = 3;
+    /** Delimiter between tokens of a query. */
+    private static final String TOKEN_DELIMITER = "\\s+";
+
+    /** Lower bound of each field, indexed by ordinal. */
+    private final double[] lower;
+    /** {@code true} if the lower bound of a field belongs to its range. */
+    private final boolean[] lowerInclusive;
+    /** Upper bound of each field, indexed by ordinal. */
+    private final double[] upper;
+    /** {@code true} if the upper bound of a field belongs to its range. */
+    private final boolean[] upperInclusive;
+    /** {@code true} if a field has any condition. */
+    private final boolean[] constrained;
+
+    /** Create a query without any condition. */
+    private RangeQuery() {
+        int fields = NumericField.values().length;
+        lower = new double[fields];
+        lowerInclusive = new boolean[fields];
+        upper = new double[fields];
+        upperInclusive = new boolean[fields];
+        constrained = new boolean[fields];
+        Arrays.fill(lower, Double.NEGATIVE_INFINITY);
+        Arrays.fill(lowerInclusive, true);
+        Arrays.fill(upper, Double.POSITIVE_INFINITY);
+        Arrays.fill(upperInclusive, true);
+    }
+
+    /**
+     * Parse a query of the form "FIELD OPERATOR number [FIELD OPERATOR number]...".
+     * @param input query to be parsed.
+     * @return parsed query, or {@code null} if the query is invalid.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static RangeQuery parse(String input) {
+        Objects.requireNonNull(input, "Given query must not be null.");
+
+        String[] tokens = input.strip().split(TOKEN_DELIMITER);
+        if (input.isBlank() || tokens.length % CONDITION_LENGTH != 0) {
+            return null;
+        }
+
+        RangeQuery query = new RangeQuery();
+        for (int i = 0; i < tokens.length; i += CONDITION_LENGTH) {
+            NumericField field = parseField(tokens[i]);
+            double value;
+            try {
+                // compared like indexed values, e.g. a rating of 4.3 is stored as a float
+                value = (float) Double.parseDouble(tokens[i + 2]);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (field == null || !Double.isFinite(value) || !query.restrict(field, tokens[i + 1], value)) {
+                return null;
+            }
+        }
+        return query;
+    }
+
+    /**
+     * Find a field by its name.
+     * @param name name of a field.
+     * @return field of the given name, or {@code null} if there is none.
+     */
+    private static NumericField parseField(String name) {
+        for (NumericField field : NumericField.values()) {
+            if (field.name().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Narrow the range of a field by a condition.
+     * @param field field of the condition.
+     * @param operator operator of the condition.
+     * @param value value the field is compared to.
+     * @return {@code true} if the operator is valid, otherwise {@code false}.
+     */
+    private boolean restrict(NumericField field, String operator, double value) {
+        int i = field.ordinal();
+        switch (operator) {
+            case "<":
+                restrictUpper(i, value, false);
+                break;
+            case "<=":
+                restrictUpper(i, value, true);
+                break;
+            case "=":
+                restrictLower(i, value, true);
+                restrictUpper(i, value, true);
+                break;
+            case ">=":
+                restrictLower(i, value, true);
+                break;
+            case ">":
+                restrictLower(i, value, false);
+                break;
+            default:
+                return false;
+        }
+        constrained[i] = true;
+        return true;
+    }
+
+    /**
+     * Raise the lower bound of a field if the given bound is tighter.
+     * @param i ordinal of the field.
+     * @param value new lower bound.
+     * @param inclusive {@code true} if the bound belongs to the range.
+     */
+    private void restrictLower(int i, double value, boolean inclusive) {
+        if (value > lower[i] || value == lower[i] && !inclusive) {
+            lower[i] = value;
+            lowerInclusive[i] = inclusive;
+        }
+    }
+
+    /**
+     * Lower the upper bound of a field if the given bound is tighter.
+     * @param i ordinal of the field.
+     * @param value new upper bound.
+     * @param inclusive {@code true} if the bound belongs to the range.
+     */
+    private void restrictUpper(int i, double value, boolean inclusive) {
+        if (value < upper[i] || value == upper[i] && !inclusive) {
+            upper[i] = value;
+            upperInclusive[i] = inclusive;
+        }
+    }
+
+    /**
+     * Find all books with every constrained field in its range.
+     *
+     * Books in the smallest range are taken from its {@link RangeIndex}
+     * and checked against the ranges of the other fields.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        return evaluate(data, true);
+    }
+
+    /**
+     * Find all books with every constrained field in its range, without building
+     * range indexes for a single query. Meant for a query evaluated only once, e.g. to
+     * remove books, where sorting all books would cost more than a single scan.
+     * Indexes of fields which such queries keep scanning are built, see {@link LibraryData#findIndex}.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] evaluateOnce(LibraryData data) {
+        return evaluate(data, false);
+    }
+
+    /**
+     * Find all books with every constrained field in its range.
+     *
+     * Books in the smallest range of an available {@link RangeIndex} are checked
+     * against the ranges of the other fields. Without any available index,
+     * all books are checked in a single pass.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @param build {@code true} if missing indexes of constrained fields are built,
+     *              {@code false} if they are only built once they are worth it.
+     * @return ids of matching books in ascending order.
+     */
+    private int[] evaluate(LibraryData data, boolean build) {
+        RangeIndex smallest = null;
+        int smallestField = -1;
+        int smallestCount = Integer.MAX_VALUE;
+        for (NumericField field : NumericField.values()) {
+            int i = field.ordinal();
+            RangeIndex index = null;
+            if (constrained[i]) {
+                index = build ? data.getRangeIndex(field) : data.findRangeIndex(field);
+            }
+            if (index != null) {
+                int count = index.count(lower[i], lowerInclusive[i], upper[i], upperInclusive[i]);
+                if (count < smallestCount) {
+                    smallest = index;
+                    smallestField = i;
+                    smallestCount = count;
+                }
+            }
+        }
+        if (smallestCount == 0) {
+            return new int[0];
+        }
+
+        List<BookEntry> books = data.getStoredBooks();
+        if (smallest == null) {
+            return IntStream.range(0, books.size())
+                    .filter(id -> matchesAll(books.get(id)))
+                    .toArray();
+        }
+
+        int s = smallestField;
+        int[] found = smallest.find(lower[s], lowerInclusive[s], upper[s], upperInclusive[s]);
+        return Arrays.stream(found)
+                .filter(id -> matchesAll(books.get(id)))
+                .toArray();
+    }
+
+    /**
+     * Check whether every constrained field of a book is in its range.
+     * @param book book to be checked.
+     * @return {@code true} if all fields are in range, otherwise {@code false}.
+     */
+    private boolean matchesAll(BookEntry book) {
+        for (NumericField field : NumericField.values()) {
+            int i = field.ordinal();
+            if (constrained[i]) {
+                double value = (float) field.of(book);
+                boolean aboveLower = value > lower[i] || lowerInclusive[i] && value == lower[i];
+                boolean belowUpper = value < upper[i] || upperInclusive[i] && value == upper[i];
+                if (!aboveLower || !belowUpper) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+import java.util.Objects;
+
+/**
+ * Query for the books whose titles are most relevant for given words, ranked by BM25,
+ * e.g. {@code harry potter} finds titles containing both words before titles containing one.
+ */
+public class RankedQuery implements BookQuery {
+
+    /** Maximum number of books found. */
+    private static final int MAX_RESULTS = 10;
+
+    /** Words to be searched for. */
+    private final String text;
+
+    /**
+     * Create a query.
+     * @param text words to be searched for.
+     * @throws NullPointerException if the text is null.
+     */
+    public RankedQuery(String text) {
+        this.text = Objects.requireNonNull(text, "Given text must not be null.");
+    }
+
+    /**
+     * Check whether an input has the form of a ranked query, words which contain
+     * no operator of a boolean query. Blank text is left to be rejected by the caller.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input has the form of a ranked query, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean hasQueryForm(String input) {
+        return !SearchQuery.containsOperator(input);
+    }
+
+    /**
+     * Find up to {@value MAX_RESULTS} books whose titles are most relevant for {@link RankedQuery#text}.
+     * @param data library to be searched, its books must not be null.
+     * @return ids of the most relevant books, best first.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        return data.getBm25Index().rank(text, MAX_RESULTS, data::isRemoved);
+    }
+}
@@ -0,0 +1,43 @@
+import java.util.Objects;
+
+/**
+ * Redo command used to reapply the most recently undone change of a library,
+ * see {@link UndoCmd}.
+ */
+public class RedoCmd extends LibraryCommand {
+
+    /** Message displayed after a change was redone. */
+    private static final String REDONE_MESSAGE = "Last undone change redone.";
+    /** Message displayed if there is no change to be redone. */
+    private static final String NOTHING_MESSAGE = "Nothing to redo.";
+    /** Message displayed if a transaction is open. */
+    private static final String IN_TRANSACTION_MESSAGE = "REDO is not available inside a transaction.";
+
+    /**
+     * Create a redo command.
+     * @param argumentInput argument input is expected to be blank.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public RedoCmd(String argumentInput) {
+        super(CommandType.REDO, argumentInput);
+    }
+
+    /**
+     * Redo the most recently undone change of the library, and display whether there was one.
+     * Changes cannot be redone while a transaction is open.
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        if (data.inTransaction()) {
+            System.out.println(IN_TRANSACTION_MESSAGE);
+        } else {
+            System.out.println(data.redo() ? REDONE_MESSAGE : NOTHING_MESSAGE);
+        }
+    }
+}
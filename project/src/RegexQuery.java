@@ -0,0 +1,339 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+
+/**
+ * Query for books with a title or an author matching a regular expression.
+ *
+ * Literal substrings every match must contain are extracted from the expression,
+ * and only books containing them according to the title and author indexes,
+ * or to a scan of the books if an index is not worth building yet,
+ * are checked against the full expression.
+ */
+public class RegexQuery implements BookQuery {
+
+    /** Maximum number of compiled patterns kept. */
+    private static final int PATTERN_CACHE_CAPACITY = 64;
+    /** Load factor of the pattern cache. */
+    private static final float LOAD_FACTOR = 0.75f;
+    /** Escaped letters which stand for a single character of a class or a boundary. */
+    private static final String SIMPLE_ESCAPES = "dDsSwWbB";
+
+    /**
+     * Compiled patterns by their expressions, least recently used first. Shared by all
+     * libraries, and even reads reorder it, so every access is synchronized.
+     */
+    private static final Map<String, Pattern> PATTERN_CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<>(PATTERN_CACHE_CAPACITY, LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+                    return size() > PATTERN_CACHE_CAPACITY;
+                }
+            });
+
+    /** Compiled expression. */
+    private final Pattern pattern;
+    /** Literals contained in every match. */
+    private final List<String> literals;
+
+    /**
+     * Create a query.
+     * @param pattern compiled expression.
+     * @param literals literals contained in every match.
+     */
+    private RegexQuery(Pattern pattern, List<String> literals) {
+        this.pattern = pattern;
+        this.literals = literals;
+    }
+
+    /**
+     * Check whether an input has the form of a regular expression query, i.e. it contains
+     * no operator of a boolean query as a separate word. Whether the expression is valid
+     * is not checked, so that an invalid expression is rejected by {@link RegexQuery#parse}.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input has the form of a query, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean hasQueryForm(String input) {
+        return !SearchQuery.containsOperator(input);
+    }
+
+    /**
+     * Parse a query, reusing a previously compiled pattern if possible.
+     * @param expression regular expression.
+     * @return parsed query, or {@code null} if the expression is blank or invalid.
+     * @throws NullPointerException if the given expression is null.
+     */
+    public static RegexQuery parse(String expression) {
+        Objects.requireNonNull(expression, "Given expression must not be null.");
+
+        if (expression.isBlank()) {
+            return null;
+        }
+
+        Pattern pattern = PATTERN_CACHE.get(expression);
+        if (pattern == null) {
+            try {
+                pattern = Pattern.compile(expression);
+            } catch (PatternSyntaxException e) {
+                return null;
+            }
+            PATTERN_CACHE.put(expression, pattern);
+        }
+        return new RegexQuery(pattern, requiredLiterals(expression));
+    }
+
+    /**
+     * Extract literals which every match of an expression contains.
+     *
+     * The extraction is conservative: groups, classes and optional characters
+     * are skipped, and no literal is required if the expression has a top level
+     * alternative, an escape sequence which is not understood, or enables comments
+     * in which whitespace is not literal.
+     *
+     * @param expression valid regular expression.
+     * @return required literals, possibly none.
+     */
+    static List<String> requiredLiterals(String expression) {
+        List<String> literals = new ArrayList<>();
+        StringBuilder run = new StringBuilder();
+
+        int i = 0;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            switch (c) {
+                case '\\':
+                    if (i + 1 == expression.length()) {
+                        return new ArrayList<>();
+                    }
+                    char escaped = expression.charAt(i + 1);
+                    if (!Character.isLetterOrDigit(escaped)) {
+                        run.append(escaped);
+                    } else if (SIMPLE_ESCAPES.indexOf(escaped) != -1) {
+                        flush(run, literals);
+                    } else {
+                        return new ArrayList<>();
+                    }
+                    i += 2;
+                    continue;
+                case '|':
+                    return new ArrayList<>();
+                case '?':
+                case '*':
+                    dropLast(run);
+                    flush(run, literals);
+                    break;
+                case '{':
+                    int close = expression.indexOf('}', i);
+                    if (close == -1) {
+                        return new ArrayList<>();
+                    }
+                    if (expression.substring(i + 1, close).startsWith("0")) {
+                        dropLast(run);
+                    }
+                    flush(run, literals);
+                    i = close + 1;
+                    continue;
+                case '(':
+                    if (hasCommentsFlag(expression, i)) {
+                        return new ArrayList<>();
+                    }
+                    flush(run, literals);
+                    i = skipGroup(expression, i);
+                    if (i == -1) {
+                        return new ArrayList<>();
+                    }
+                    continue;
+                case '[':
+                    flush(run, literals);
+                    i = skipGroup(expression, i);
+                    if (i == -1) {
+                        return new ArrayList<>();
+                    }
+                    continue;
+                case '+':
+                case '.':
+                case '^':
+                case '$':
+                    flush(run, literals);
+                    break;
+                default:
+                    run.append(c);
+            }
+            i++;
+        }
+        flush(run, literals);
+        return literals;
+    }
+
+    /**
+     * Check whether a group sets inline flags including comments, e.g. {@code (?ix)}.
+     * @param expression regular expression.
+     * @param start position of the opening bracket of the group.
+     * @return {@code true} if the group enables comments, otherwise {@code false}.
+     */
+    private static boolean hasCommentsFlag(String expression, int start) {
+        if (!expression.startsWith("(?", start)) {
+            return false;
+        }
+        for (int i = start + 2; i < expression.length() && Character.isLetter(expression.charAt(i)); i++) {
+            if (expression.charAt(i) == 'x') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip a group or a character class.
+     * @param expression regular expression.
+     * @param start position of the opening bracket.
+     * @return position after the closing bracket, or {@code -1} if it is not found.
+     */
+    private static int skipGroup(String expression, int start) {
+        int depth = 0;
+        boolean inClass = false;
+        for (int i = start; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (inClass) {
+                inClass = c != ']';
+                if (!inClass && depth == 0) {
+                    return i + 1;
+                }
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the last character of a run, which turned out to be optional.
+     * @param run current run of literal characters.
+     */
+    private static void dropLast(StringBuilder run) {
+        if (run.length() > 0) {
+            run.setLength(run.length() - 1);
+        }
+    }
+
+    /**
+     * Finish a run of literal characters.
+     * @param run current run of literal characters, it is emptied.
+     * @param literals literals the run is added to if it is not blank.
+     */
+    private static void flush(StringBuilder run, List<String> literals) {
+        if (!run.toString().isBlank()) {
+            literals.add(run.toString());
+        }
+        run.setLength(0);
+    }
+
+    /**
+     * Find all books with a title or an author matching the expression.
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        return Arrays.stream(candidates(data))
+                .filter(id -> matches(books.get(id)))
+                .toArray();
+    }
+
+    /**
+     * Find books which may match the expression, using the title and author indexes.
+     * An index which is not worth building yet is replaced by a scan of the books,
+     * see {@link LibraryData#findIndex}.
+     *
+     * @param data library to be searched.
+     * @return ids of books containing all required literals in their title or in their authors.
+     */
+    private int[] candidates(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        if (literals.isEmpty()) {
+            return IntStream.range(0, books.size()).toArray();
+        }
+
+        TitleWordIndex titleIndex = (TitleWordIndex) data.findIndex(IndexType.TITLE_WORDS);
+        AuthorIndex authorIndex = (AuthorIndex) data.findIndex(IndexType.AUTHOR);
+        int[] inTitles = titleIndex == null ? scan(books, book -> new String[] { book.getTitle() }) : null;
+        int[] inAuthors = authorIndex == null ? scan(books, BookEntry::getAuthors) : null;
+        for (String literal : literals) {
+            if (titleIndex != null) {
+                int[] titleHits = findInTitles(titleIndex, literal);
+                inTitles = inTitles == null ? titleHits : PostingList.intersect(inTitles, titleHits);
+            }
+            if (authorIndex != null) {
+                int[] authorHits = authorIndex.findContaining(literal);
+                inAuthors = inAuthors == null ? authorHits : PostingList.intersect(inAuthors, authorHits);
+            }
+        }
+        return PostingList.union(inTitles, inAuthors);
+    }
+
+    /**
+     * Find books which contain every required literal in any of their fields, ignoring case
+     * as the indexes do, by checking all books.
+     * @param books list of books, ids are positions in this list.
+     * @param fields fields of a book searched for the literals.
+     * @return ids of books containing all required literals in ascending order.
+     */
+    private int[] scan(List<BookEntry> books, Function<BookEntry, String[]> fields) {
+        return IntStream.range(0, books.size())
+                .filter(id -> literals.stream().allMatch(literal -> Arrays.stream(fields.apply(books.get(id)))
+                        .anyMatch(field -> Utils.containsIgnoreCase(field, literal))))
+                .toArray();
+    }
+
+    /**
+     * Find books whose title may contain a literal.
+     * @param index index of words of titles.
+     * @param literal literal which may contain whitespace.
+     * @return ids of books containing every word of the literal.
+     */
+    private static int[] findInTitles(TitleWordIndex index, String literal) {
+        int[] hits = null;
+        for (String word : TitleWordIndex.words(literal)) {
+            int[] wordHits = index.findContaining(word);
+            hits = hits == null ? wordHits : PostingList.intersect(hits, wordHits);
+        }
+        return hits;
+    }
+
+    /**
+     * Check whether the title or any author of a book matches the expression.
+     * @param book book to be checked.
+     * @return {@code true} if the book matches, otherwise {@code false}.
+     */
+    private boolean matches(BookEntry book) {
+        if (pattern.matcher(book.getTitle()).find()) {
+            return true;
+        }
+        for (String author : book.getAuthors()) {
+            if (pattern.matcher(author).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
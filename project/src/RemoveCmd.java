@@ -1,10 +1,19 @@
-import java.util.Iterator;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Remove command used to delete entries from a library
- * if a given {@link BookField} value is common for them.
+ * if a given {@link BookField} value is common for them,
+ * if their title, an author or their ISBN is listed in a file,
+ * or if their numeric fields satisfy a {@link RangeQuery}.
  */
 public class RemoveCmd extends LibraryCommand {
 
@@ -16,17 +25,30 @@ public class RemoveCmd extends LibraryCommand {
     private static final String REMOVE_TITLE_NOT_FOUND_MESSAGE = ": not found.";
     /** Message displayed after successfully removing books by its title. */
     private static final String REMOVE_TITLE_SUCCESSFULLY = ": removed successfully.";
+    /** Argument for removing books listed in a file. */
+    private static final String FILE_ARG = "FILE";
+    /** Message displayed after removing books listed in a file. */
+    private static final String REMOVE_FILE_MESSAGE = "%d books removed for %d values from file: %s";
+    /** Argument for removing books with numeric fields in given ranges. */
+    private static final String WHERE_ARG = "WHERE";
+    /** Message displayed after removing books with numeric fields in given ranges. */
+    private static final String REMOVE_WHERE_MESSAGE = " books removed where: ";
 
 
     /** One of {@link BookField} values. */
     private BookField mode;
     /** Full information corresponding to {@link BookField} value. */
     private String modeParameter;
+    /** File listing titles, authors or ISBNs of books to be removed, or null to remove by {@link RemoveCmd#mode}. */
+    private Path valuesFile;
+    /** Condition on numeric fields of books to be removed, or null to remove by another criterion. */
+    private RangeQuery condition;
 
     /** Create a remove command.
      *
      * @param argumentInput input is expected to be of the form
      *                      "{@link RemoveCmd#mode} {@link RemoveCmd#modeParameter}"
+     *                      or "{@value FILE_ARG} path" or "{@value WHERE_ARG} condition".
      * @throws IllegalArgumentException if given arguments are invalid.
      * @throws NullPointerException if given arguments are null.
      * @see LibraryCommand#LibraryCommand for errors handling.
@@ -39,10 +61,12 @@ public class RemoveCmd extends LibraryCommand {
 
     /**
      * Check if the argument starts with {@link BookField} value,
-     * followed by whitespace and non-blank word.
+     * followed by whitespace and non-blank word, with {@value FILE_ARG}
+     * followed by whitespace and a path, or with {@value WHERE_ARG} followed by
+     * whitespace and a {@link RangeQuery}, e.g. "WHERE RATING < 2.0".
      *
-     * Assign {@link RemoveCmd#mode} and {@link RemoveCmd#modeParameter} fields
-     * to an instance.
+     * Assign {@link RemoveCmd#mode} and {@link RemoveCmd#modeParameter} fields,
+     * {@link RemoveCmd#valuesFile} or {@link RemoveCmd#condition} to an instance.
      *
      * @param argumentInput argument input for this command.
      * @return {@code true} if the argument is valid, otherwise {@code false}.
@@ -51,6 +75,15 @@ public class RemoveCmd extends LibraryCommand {
     protected boolean parseArguments(String argumentInput) {
         Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
 
+        if (argumentInput.startsWith(FILE_ARG + PADDING)) {
+            return parseFile(argumentInput.substring(FILE_ARG.length() + PADDING.length()));
+        }
+        if (argumentInput.startsWith(WHERE_ARG + PADDING)) {
+            modeParameter = argumentInput.substring(WHERE_ARG.length() + PADDING.length()).strip();
+            condition = RangeQuery.parse(modeParameter);
+            return condition != null;
+        }
+
         boolean isFirstArgValid = false;
         for (BookField bookField : BookField.values()) {
             String legalMode = bookField.name();
@@ -70,7 +103,25 @@ public class RemoveCmd extends LibraryCommand {
     }
 
     /**
-     * Execute the remove command and remove all books of a given {@link RemoveCmd#mode}.
+     * Assign {@link RemoveCmd#valuesFile} if the argument is a valid path.
+     * @param path path of a file listing values of removed books.
+     * @return {@code true} if the path is valid, otherwise {@code false}.
+     */
+    private boolean parseFile(String path) {
+        if (path.isBlank()) {
+            return false;
+        }
+        try {
+            valuesFile = Paths.get(path);
+            return true;
+        } catch (InvalidPathException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Execute the remove command and remove all books of a given {@link RemoveCmd#mode},
+     * all books listed in {@link RemoveCmd#valuesFile} or all books satisfying {@link RemoveCmd#condition}.
      * @param data book data to be considered for command execution.
      * @throws NullPointerException if given parameter is null, list of books is null,
      *                              or any entry in the list of books is null.
@@ -79,15 +130,25 @@ public class RemoveCmd extends LibraryCommand {
     @Override
     public void execute(LibraryData data) {
         Objects.requireNonNull(data, "Library data must not be null.");
-        List<BookEntry> books = Utils.getNonNullBookData(data);
-        Iterator<BookEntry> booksIterator = books.iterator();
+
+        if (valuesFile != null) {
+            removeFile(data);
+            return;
+        }
+        if (condition != null) {
+            removeWhere(data);
+            return;
+        }
 
         switch (mode) {
             case TITLE:
-                removeTitle(booksIterator);
+                removeTitle(data);
                 break;
             case AUTHOR:
-                removeAuthor(booksIterator);
+                removeAuthor(data);
+                break;
+            case ISBN:
+                removeIsbn(data);
                 break;
             default:
                 throw new IllegalArgumentException("The given mode is invalid.");
@@ -97,25 +158,28 @@ public class RemoveCmd extends LibraryCommand {
     /**
      * Remove a book of a given title.
      * If a book was successfully removed or not found, prints a special message.
+     * Titles which are certainly not in the library are not searched for,
+     * others are found through the title index of the library.
      *
-     * @param booksIterator iterator of a list of all books.
+     * @param data library the book is removed from.
      */
-    private void removeTitle(Iterator<BookEntry> booksIterator) {
-        boolean isRemoved = false;
-        while (booksIterator.hasNext() && !isRemoved) {
-            BookEntry book = booksIterator.next();
-            String bookTitle = book.getTitle();
-            if (bookTitle.equals(modeParameter)) {
-                booksIterator.remove();
-                isRemoved = true;
-            }
-        }
-
+    private void removeTitle(LibraryData data) {
+        boolean isRemoved = data.mightContainTitle(modeParameter) && data.removeTitle(modeParameter);
         printRemoveTitle(isRemoved);
     }
 
     /**
-     * Display a message after removing a book by its title.
+     * Remove the book of a given ISBN in either form, found through the ISBN index of the library.
+     * If a book was successfully removed or not found, prints a special message.
+     *
+     * @param data library the book is removed from.
+     */
+    private void removeIsbn(LibraryData data) {
+        printRemoveTitle(data.removeIsbn(modeParameter) > 0);
+    }
+
+    /**
+     * Display a message after removing a book by its title or ISBN.
      * @param isRemoved {@code true} if a book was removed,
      *                  {@code false} if no book was removed.
      */
@@ -128,23 +192,15 @@ public class RemoveCmd extends LibraryCommand {
     }
 
     /**
-     * Remove a book of a given title, if possible.
+     * Remove all books of a given author, found through the author index of the library.
      * After that, print a special message {@link RemoveCmd#printRemoveAuthor}.
      *
-     * @param booksIterator iterator of a list of all books.
+     * @param data library the books are removed from.
      */
-    private void removeAuthor(Iterator<BookEntry> booksIterator) {
+    private void removeAuthor(LibraryData data) {
         int numberOfRemoved = 0;
-        while (booksIterator.hasNext()) {
-            BookEntry book = booksIterator.next();
-            String[] authors = book.getAuthors();
-            for (String author : authors) {
-                if (author.equals(modeParameter)) {
-                    booksIterator.remove();
-                    numberOfRemoved++;
-                    break;
-                }
-            }
+        if (data.mightContainAuthor(modeParameter)) {
+            numberOfRemoved = data.removeAuthor(modeParameter);
         }
         printRemoveAuthor(numberOfRemoved);
     }
@@ -156,4 +212,51 @@ public class RemoveCmd extends LibraryCommand {
     private void printRemoveAuthor(int numberOfRemoved) {
         System.out.println(numberOfRemoved + REMOVE_AUTHOR_MESSAGE + modeParameter);
     }
+
+    /**
+     * Remove all books whose title, any author or ISBN is a line of {@link RemoveCmd#valuesFile},
+     * and print how many were removed. Titles and authors are collected in a hash set and
+     * matched in a single pass over the library. ISBNs are looked up in the ISBN index,
+     * so they are found in any notation.
+     *
+     * @param data library the books are removed from.
+     */
+    private void removeFile(LibraryData data) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(valuesFile);
+        } catch (IOException | SecurityException e) {
+            System.err.println("ERROR: Reading file content failed: " + e);
+            return;
+        }
+
+        Set<String> values = new HashSet<>();
+        for (String line : lines) {
+            if (!line.isBlank()) {
+                values.add(line.strip());
+            }
+        }
+        Set<BookEntry> byIsbn = new HashSet<>();
+        for (String value : values) {
+            byIsbn.addAll(data.getIsbnIndex().find(value));
+        }
+
+        int numberOfRemoved = data.removeAll(book -> values.contains(book.getTitle())
+                || Arrays.stream(book.getAuthors()).anyMatch(values::contains)
+                || byIsbn.contains(book));
+        System.out.println(String.format(REMOVE_FILE_MESSAGE, numberOfRemoved, values.size(), valuesFile));
+    }
+
+    /**
+     * Remove all books satisfying {@link RemoveCmd#condition} and print how many were removed.
+     * The condition is parsed once and checked in a single pass over the library,
+     * or only against the books in range of a range index, which is built once such
+     * conditions keep scanning the library.
+     *
+     * @param data library the books are removed from.
+     */
+    private void removeWhere(LibraryData data) {
+        int numberOfRemoved = data.removeIds(condition.evaluateOnce(data));
+        System.out.println(numberOfRemoved + REMOVE_WHERE_MESSAGE + modeParameter);
+    }
 }
@@ -0,0 +1,121 @@
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Position within the results of a paginated command, which are shown one page at a time.
+ * Results are taken lazily from an iterator over their ids, e.g. over the stored books
+ * of a library or over a query scanning them, so a page only visits the books up to its
+ * last result and later pages never repeat earlier work. Books removed in the meantime are skipped.
+ */
+public class ResultCursor {
+
+    /** Line displayed after a page if more results follow, followed by the command showing them. */
+    private static final String NEXT_PAGE_MESSAGE = "Next page: ";
+
+    /** Opaque token identifying this cursor. */
+    private final String token;
+    /** Ids of the results which were not taken yet. */
+    private final PrimitiveIterator.OfInt ids;
+    /** Maximum number of results per page. */
+    private final int pageSize;
+    /** {@code true} if entire books are shown, {@code false} if only titles are shown. */
+    private final boolean longForm;
+    /** Layout version of the library the ids refer to. */
+    private final long layoutVersion;
+    /** Id of the first result of the next page, only valid if {@link ResultCursor#hasNext} is set. */
+    private int next;
+    /** {@code true} if {@link ResultCursor#next} was taken from the iterator, but not shown yet. */
+    private boolean hasNext;
+    /** {@code true} if all results have been shown. */
+    private boolean exhausted;
+
+    /**
+     * Create a cursor before the first result.
+     * @param token opaque token identifying the cursor.
+     * @param ids iterator over ids of all results, taken only as far as pages are shown.
+     * @param pageSize maximum number of results per page.
+     * @param longForm {@code true} if entire books are shown, {@code false} if only titles are shown.
+     * @param layoutVersion layout version of the library the ids refer to.
+     */
+    public ResultCursor(String token, PrimitiveIterator.OfInt ids, int pageSize, boolean longForm,
+                        long layoutVersion) {
+        this.token = token;
+        this.ids = ids;
+        this.pageSize = pageSize;
+        this.longForm = longForm;
+        this.layoutVersion = layoutVersion;
+        hasNext = false;
+        exhausted = false;
+    }
+
+    /**
+     * Get opaque token identifying this cursor.
+     * @return {@link ResultCursor#token}.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Check whether the cursor can be used for a library in a given layout.
+     * @param currentLayoutVersion current layout version of the library.
+     * @return {@code true} if ids of the cursor are still valid, otherwise {@code false}.
+     */
+    public boolean isValidFor(long currentLayoutVersion) {
+        return layoutVersion == currentLayoutVersion;
+    }
+
+    /**
+     * Check whether all results have been shown.
+     * @return {@code true} if there are no more pages, otherwise {@code false}.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Render the next page of results and move the cursor behind it.
+     * If more results follow, the page ends with the command showing the next page,
+     * so the first result of that page is looked up in advance.
+     *
+     * @param data library the ids refer to.
+     * @return rendered page.
+     */
+    public String renderPage(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        StringBuilder output = new StringBuilder();
+
+        for (int shown = 0; shown < pageSize && takeNext(data); shown++) {
+            BookEntry book = books.get(next);
+            Utils.appendLine(output, longForm ? book : book.getTitle());
+            hasNext = false;
+        }
+
+        exhausted = !takeNext(data);
+        if (!exhausted) {
+            Utils.appendLine(output, NEXT_PAGE_MESSAGE + CommandType.NEXT + " " + token);
+        }
+        return output.toString();
+    }
+
+    /**
+     * Take the next result which is not removed from the iterator, unless it was taken already.
+     * @param data library the ids refer to.
+     * @return {@code true} if {@link ResultCursor#next} is a result to be shown, {@code false} if none is left.
+     */
+    private boolean takeNext(LibraryData data) {
+        if (hasNext && !data.isRemoved(next)) {
+            return true;
+        }
+        hasNext = false;
+        while (ids.hasNext()) {
+            int id = ids.nextInt();
+            if (!data.isRemoved(id)) {
+                next = id;
+                hasNext = true;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,20 +1,59 @@
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 
 /**
- * Search command used to search for books with a title containing a given phrase.
+ * Search command used to search for books with a title containing a given phrase,
+ * or matching a boolean {@link SearchQuery} such as {@code potter AND goblet}.
+ * Arguments of the form {@value FUZZY_MODE} {@code <word> [distance]} search for similar words instead,
+ * see {@link FuzzyQuery}, arguments starting with {@value AUTHOR_MODE} search names of authors, see {@link AuthorQuery},
+ * arguments starting with {@value SOUNDS_MODE} search names of authors by sound, see {@link SoundsQuery},
+ * arguments starting with {@value RANKED_MODE} show the most relevant titles first, see {@link RankedQuery},
+ * and arguments starting with {@value REGEX_MODE} match titles and authors, see {@link RegexQuery}.
+ * A keyword only selects its mode if the rest has the form of that mode's query, so arguments
+ * containing boolean operators, e.g. {@code AUTHOR AND potter}, are boolean queries.
+ * Any search may end with a {@link TopSelection} to show only the best books, e.g. {@code the TOP 5 BY RATING},
+ * and with {@value LIMIT_KEYWORD} to show results in pages, continued by {@link NextCmd}.
  */
 public class SearchCmd extends LibraryCommand {
 
     /** Message displayed when nothing was found. */
     private static final String NOTHING_FOUND_MESSAGE = "No hits found for search term: ";
+    /** Keyword of a search for similar words. */
+    private static final String FUZZY_MODE = "FUZZY";
+    /** Keyword of a search for authors. */
+    private static final String AUTHOR_MODE = "AUTHOR";
+    /** Keyword of a search for authors by sound. */
+    private static final String SOUNDS_MODE = "SOUNDS";
+    /** Keyword of a search ranked by relevance. */
+    private static final String RANKED_MODE = "RANKED";
+    /** Keyword of a search by regular expression. */
+    private static final String REGEX_MODE = "REGEX";
+    /** Keyword followed by the number of results per page. */
+    private static final String LIMIT_KEYWORD = "LIMIT";
+    /** Gap between a keyword and the query. */
+    private static final String PADDING = " ";
 
     /** The phrase we search for. */
     private final String searchValue;
+    /** Parsed {@link SearchCmd#searchValue}. */
+    private BookQuery query;
+    /** Selection of the best books found, null if all books found are shown. */
+    private TopSelection top;
+    /** Maximum number of results per page, or {@code 0} if all results are shown at once. */
+    private int limit;
 
     /** Generate search command.
-     * @param argumentInput argument input is expected to be not blank and
-     *                      have only one word.
+     * @param argumentInput argument input is expected to be a single word,
+     *                      a valid {@link SearchQuery}, {@value FUZZY_MODE}
+     *                      followed by a valid {@link FuzzyQuery}, {@value AUTHOR_MODE}
+     *                      followed by a part of a name of an author, {@value SOUNDS_MODE}
+     *                      followed by a name sounding like an author, {@value RANKED_MODE}
+     *                      followed by words of titles, or {@value REGEX_MODE}
+     *                      followed by a valid regular expression,
+     *                      optionally followed by a {@link TopSelection},
+     *                      optionally followed by {@value LIMIT_KEYWORD} and a page size.
      * @throws IllegalArgumentException if given arguments are invalid.
      * @throws NullPointerException if given arguments are null.
      * @see LibraryCommand#LibraryCommand for errors handling.
@@ -26,20 +65,77 @@ public class SearchCmd extends LibraryCommand {
     }
 
     /**
-     * Check whether the given argument is not blank and has only one word.
+     * Check whether the given argument is a single word, a valid boolean query,
+     * a valid fuzzy query, an author query, a query by sound, a ranked query,
+     * or a valid regular expression, optionally
+     * followed by a selection of the best books and a page size. If it is valid, assign the parsed query to
+     * {@link SearchCmd#query}, the selection to {@link SearchCmd#top} and the page size
+     * to {@link SearchCmd#limit}.
+     *
      * @param argumentInput argument input for this command
      * @return {@code true} if the argument is valid, otherwise {@code false}.
      * @throws NullPointerException if the given argument is null.
+     * @see SearchQuery for the syntax of boolean queries.
+     * @see FuzzyQuery for the syntax of fuzzy queries.
+     * @see TopSelection for the syntax of selections.
      */
     @Override
     protected boolean parseArguments(String argumentInput) {
         Objects.requireNonNull(argumentInput, "Given input argument must not be null.");
-        return !argumentInput.isBlank() && !argumentInput.contains(" ");
+
+        String queryInput = argumentInput;
+        limit = 0;
+        int limitStart = queryInput.lastIndexOf(PADDING + LIMIT_KEYWORD + PADDING);
+        if (limitStart != -1) {
+            limit = Math.max(0, Utils.parsePositiveInt(
+                    queryInput.substring(limitStart + LIMIT_KEYWORD.length() + 2 * PADDING.length())));
+            if (limit > 0) {
+                queryInput = queryInput.substring(0, limitStart);
+            }
+        }
+
+        top = null;
+        int topStart = queryInput.lastIndexOf(PADDING + TopSelection.TOP_KEYWORD + PADDING);
+        if (topStart != -1) {
+            top = TopSelection.parse(queryInput.substring(topStart + PADDING.length()));
+            if (top != null) {
+                queryInput = queryInput.substring(0, topStart);
+            }
+        }
+
+        // a keyword only selects its mode if the rest has the form of that mode's query
+        String modeInput;
+        if ((modeInput = modeInput(queryInput, FUZZY_MODE)) != null && FuzzyQuery.hasQueryForm(modeInput)) {
+            query = FuzzyQuery.parse(modeInput);
+        } else if ((modeInput = modeInput(queryInput, AUTHOR_MODE)) != null && AuthorQuery.hasQueryForm(modeInput)) {
+            query = modeInput.isBlank() ? null : new AuthorQuery(modeInput);
+        } else if ((modeInput = modeInput(queryInput, SOUNDS_MODE)) != null && SoundsQuery.hasQueryForm(modeInput)) {
+            query = PhoneticAuthorIndex.isEncodable(modeInput) ? new SoundsQuery(modeInput) : null;
+        } else if ((modeInput = modeInput(queryInput, RANKED_MODE)) != null && RankedQuery.hasQueryForm(modeInput)) {
+            query = modeInput.isBlank() ? null : new RankedQuery(modeInput);
+        } else if ((modeInput = modeInput(queryInput, REGEX_MODE)) != null && RegexQuery.hasQueryForm(modeInput)) {
+            query = RegexQuery.parse(modeInput);
+        } else {
+            query = SearchQuery.parse(queryInput);
+        }
+        return query != null;
+    }
+
+    /**
+     * Get the argument of a search mode.
+     * @param queryInput query given by user.
+     * @param mode keyword of a search mode.
+     * @return rest of the query after the keyword and a gap, or null if the query does not start with them.
+     */
+    private static String modeInput(String queryInput, String mode) {
+        return queryInput.startsWith(mode + PADDING) ? queryInput.substring(mode.length() + PADDING.length()) : null;
     }
 
     /**
      * Execute the command and displays either all books which were found,
-     * or a message that nothing was found.
+     * or a message that nothing was found. Repeated searches on an unchanged
+     * library are answered from its {@link QueryCache}. If {@link SearchCmd#limit}
+     * is given, only the first page is displayed and a cursor for the next one is opened.
      *
      * @param data book data to be considered for command execution.
      * @throws NullPointerException if library data is null, or list of books of the library is null,
@@ -48,20 +144,50 @@ public class SearchCmd extends LibraryCommand {
     @Override
     public void execute(LibraryData data) {
         Objects.requireNonNull(data, "Library data must not be null.");
-        List<BookEntry> books = Utils.getNonNullBookData(data);
-        boolean nothingPrinted = true;
 
-        for (BookEntry book : books) {
-            String title = book.getTitle();
-            if (Utils.containsIgnoreCase(title, searchValue)) {
-                nothingPrinted = false;
-                System.out.println(title);
+        if (limit > 0) {
+            System.out.print(render(data));
+        } else {
+            String cacheKey = getType() + " " + searchValue;
+            System.out.print(data.getQueryCache().getOrRender(cacheKey, data.getVersion(),
+                    () -> render(data)));
+        }
+    }
+
+    /**
+     * Render titles of all books matching {@link SearchCmd#query} in library order or by relevance,
+     * or only the best of them if {@link SearchCmd#top} is given,
+     * or a message that nothing was found. Only the first page is rendered
+     * if {@link SearchCmd#limit} is given.
+     *
+     * @param data library to be searched.
+     * @return rendered output of the command.
+     */
+    private String render(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        StringBuilder output = new StringBuilder();
+
+        if (limit > 0) {
+            // the best books are only known once all are found, other results are found page by page
+            PrimitiveIterator.OfInt found = top == null ? query.iterate(data)
+                    : Arrays.stream(top.select(data.withoutRemoved(query.evaluate(data)), books)).iterator();
+            CursorRegistry cursors = data.getCursors();
+            ResultCursor cursor = cursors.open(found, limit, false, data.getLayoutVersion());
+            output.append(cursors.renderPage(cursor, data));
+        } else {
+            int[] found = data.withoutRemoved(query.evaluate(data));
+            if (top != null) {
+                found = top.select(found, books);
+            }
+            for (int id : found) {
+                Utils.appendLine(output, books.get(id).getTitle());
             }
         }
 
-        if (nothingPrinted) {
-            System.out.println(NOTHING_FOUND_MESSAGE + searchValue);
+        if (output.length() == 0) {
+            Utils.appendLine(output, NOTHING_FOUND_MESSAGE + searchValue);
         }
+        return output.toString();
     }
 
 }
@@ -0,0 +1,361 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * Boolean query over book titles, e.g. {@code potter AND "goblet of fire" NOT half}.
+ *
+ * Terms are matched as case-insensitive substrings of titles. {@value AND} binds
+ * stronger than {@value OR}, and {@value NOT} excludes the following term, either
+ * on its own ({@code a NOT b}) or after {@value AND} ({@code a AND NOT b}).
+ * A phrase in double quotes is a single term which may contain spaces.
+ * An argument without whitespace is always a single term taken literally.
+ */
+public class SearchQuery implements BookQuery {
+
+    /** Operator requiring both neighbouring terms. */
+    private static final String AND = "AND";
+    /** Operator requiring any of neighbouring terms. */
+    private static final String OR = "OR";
+    /** Operator excluding the following term. */
+    private static final String NOT = "NOT";
+    /** Character enclosing phrases. */
+    private static final char QUOTE = '"';
+
+    /**
+     * Single term of a query.
+     */
+    private static class Term {
+        /** Text to be contained in a title. */
+        private final String text;
+        /** {@code true} if the text must not be contained in a title. */
+        private final boolean negated;
+
+        /**
+         * Create a term.
+         * @param text text to be contained in a title.
+         * @param negated {@code true} if the text must not be contained in a title.
+         */
+        private Term(String text, boolean negated) {
+            this.text = text;
+            this.negated = negated;
+        }
+    }
+
+    /** Alternatives of the query, each one is a conjunction of terms. */
+    private final List<List<Term>> clauses;
+
+    /**
+     * Create a query.
+     * @param clauses alternatives, each one with at least one term which is not negated.
+     */
+    private SearchQuery(List<List<Term>> clauses) {
+        this.clauses = clauses;
+    }
+
+    /**
+     * Parse a query.
+     * @param input query to be parsed.
+     * @return parsed query, or {@code null} if the query is invalid.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static SearchQuery parse(String input) {
+        Objects.requireNonNull(input, "Given query must not be null.");
+
+        if (input.isBlank()) {
+            return null;
+        }
+
+        List<List<Term>> clauses = new ArrayList<>();
+        if (input.chars().noneMatch(Character::isWhitespace)) {
+            List<Term> clause = new ArrayList<>();
+            clause.add(new Term(input, false));
+            clauses.add(clause);
+            return new SearchQuery(clauses);
+        }
+
+        List<String> tokens = tokenize(input);
+        if (tokens == null) {
+            return null;
+        }
+
+        List<Term> clause = new ArrayList<>();
+        boolean expectTerm = true;
+        boolean negated = false;
+        for (String token : tokens) {
+            boolean isOperator = token.equals(AND) || token.equals(OR) || token.equals(NOT);
+            if (expectTerm) {
+                if (token.equals(NOT) && !negated) {
+                    negated = true;
+                } else if (isOperator) {
+                    return null;
+                } else {
+                    clause.add(new Term(unquote(token), negated));
+                    negated = false;
+                    expectTerm = false;
+                }
+            } else if (isOperator) {
+                if (token.equals(OR)) {
+                    clauses.add(clause);
+                    clause = new ArrayList<>();
+                }
+                negated = token.equals(NOT);
+                expectTerm = true;
+            } else {
+                return null;
+            }
+        }
+        if (expectTerm) {
+            return null;
+        }
+        clauses.add(clause);
+
+        for (List<Term> parsed : clauses) {
+            if (parsed.stream().allMatch(term -> term.negated)) {
+                return null;
+            }
+        }
+        return new SearchQuery(clauses);
+    }
+
+    /**
+     * Check whether an input contains an operator of a boolean query as a separate word.
+     * Arguments of search modes never contain operators, so such an input is a boolean query
+     * even if it starts with the keyword of a mode, e.g. {@code AUTHOR AND potter}.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input contains an operator, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean containsOperator(String input) {
+        Objects.requireNonNull(input, "Given query must not be null.");
+
+        for (String word : input.split("\\s+")) {
+            if (word.equals(AND) || word.equals(OR) || word.equals(NOT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Split a query into tokens separated by whitespace, keeping quoted phrases together.
+     * @param input query to be split.
+     * @return tokens of the query, or {@code null} if a quote is not closed or a phrase is blank.
+     */
+    private static List<String> tokenize(String input) {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < input.length()) {
+            if (Character.isWhitespace(input.charAt(i))) {
+                i++;
+            } else if (input.charAt(i) == QUOTE) {
+                int end = input.indexOf(QUOTE, i + 1);
+                if (end == -1 || input.substring(i + 1, end).isBlank()) {
+                    return null;
+                }
+                tokens.add(input.substring(i, end + 1));
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < input.length() && !Character.isWhitespace(input.charAt(end))) {
+                    end++;
+                }
+                tokens.add(input.substring(i, end));
+                i = end;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Remove enclosing quotes of a phrase.
+     * @param token token of a query.
+     * @return text of the phrase, or the token itself if it is not quoted.
+     */
+    private static String unquote(String token) {
+        if (token.length() > 1 && token.charAt(0) == QUOTE && token.charAt(token.length() - 1) == QUOTE) {
+            return token.substring(1, token.length() - 1);
+        }
+        return token;
+    }
+
+    /**
+     * Find all books matching this query. Candidates are found in the index of words
+     * of titles, or titles are scanned if it is not worth building yet, see {@link LibraryData#findIndex}.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        TitleWordIndex index = (TitleWordIndex) data.findIndex(IndexType.TITLE_WORDS);
+        return index == null ? scan(books) : evaluate(index, books);
+    }
+
+    /**
+     * Find books matching this query one at a time. If titles would be scanned for lack
+     * of the index of words of titles, they are only scanned as far as results are taken,
+     * otherwise all books are found in the index first. Removed books are skipped.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return iterator over ids of matching books in ascending order.
+     */
+    @Override
+    public PrimitiveIterator.OfInt iterate(LibraryData data) {
+        List<BookEntry> books = data.getStoredBooks();
+        TitleWordIndex index = (TitleWordIndex) data.findIndex(IndexType.TITLE_WORDS);
+        if (index != null) {
+            return Arrays.stream(evaluate(index, books)).iterator();
+        }
+        return IntStream.range(0, books.size())
+                .filter(id -> !data.isRemoved(id) && matches(books.get(id)))
+                .iterator();
+    }
+
+    /**
+     * Find all books matching this query in the index of words of titles.
+     * @param index index of titles of the given books.
+     * @param books list of books, ids are positions in this list.
+     * @return ids of matching books in ascending order.
+     */
+    private int[] evaluate(TitleWordIndex index, List<BookEntry> books) {
+        int[] result = new int[0];
+        for (List<Term> clause : clauses) {
+            result = PostingList.union(result, evaluateClause(clause, index, books));
+        }
+        return result;
+    }
+
+    /**
+     * Find all books matching this query by checking titles of all books.
+     * @param books list of books, ids are positions in this list.
+     * @return ids of matching books in ascending order.
+     */
+    private int[] scan(List<BookEntry> books) {
+        return IntStream.range(0, books.size())
+                .filter(id -> matches(books.get(id)))
+                .toArray();
+    }
+
+    /**
+     * Check whether the title of a book matches every term of any clause.
+     * @param book book to be checked.
+     * @return {@code true} if the book matches this query, otherwise {@code false}.
+     */
+    private boolean matches(BookEntry book) {
+        return clauses.stream().anyMatch(clause -> clause.stream().allMatch(term -> matches(book, term)));
+    }
+
+    /**
+     * Check whether the title of a book matches a term. Terms which are not negated
+     * are matched against lower case words of titles exactly as {@link SearchQuery#findCandidates}
+     * matches them in the index, so results do not depend on whether the index is built.
+     *
+     * @param book book to be checked.
+     * @param term term to be matched.
+     * @return {@code true} if the title matches the term, otherwise {@code false}.
+     */
+    private static boolean matches(BookEntry book, Term term) {
+        if (term.negated) {
+            return !Utils.containsIgnoreCase(book.getTitle(), term.text);
+        }
+        boolean isPhrase = term.text.chars().anyMatch(Character::isWhitespace);
+        return containsWords(book, term) && (!isPhrase || Utils.containsIgnoreCase(book.getTitle(), term.text));
+    }
+
+    /**
+     * Check whether each word of a term is contained in a lower case word of the title of a book,
+     * as found by {@link TermIndex#findContaining} in the index of words of titles.
+     * @param book book to be checked.
+     * @param term term whose words are searched for.
+     * @return {@code true} if every word of the term is contained in a word of the title.
+     */
+    private static boolean containsWords(BookEntry book, Term term) {
+        String[] titleWords = TitleWordIndex.words(book.getTitle());
+        for (String word : TitleWordIndex.words(term.text)) {
+            String lowerWord = word.toLowerCase();
+            if (Arrays.stream(titleWords).noneMatch(titleWord -> !titleWord.isEmpty() && titleWord.contains(lowerWord))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Find all books matching every term of a clause.
+     *
+     * Candidates of terms which are not negated are intersected starting from
+     * the smallest list. Negated terms are only checked against the remaining candidates.
+     *
+     * @param clause conjunction of terms.
+     * @param index index of titles of the given books.
+     * @param books list of books, ids are positions in this list.
+     * @return ids of matching books in ascending order.
+     */
+    private static int[] evaluateClause(List<Term> clause, TitleWordIndex index, List<BookEntry> books) {
+        List<int[]> candidateLists = new ArrayList<>();
+        for (Term term : clause) {
+            if (!term.negated) {
+                int[] candidates = findCandidates(term, index, books);
+                if (candidates.length == 0) {
+                    return candidates;
+                }
+                candidateLists.add(candidates);
+            }
+        }
+        candidateLists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = candidateLists.get(0);
+        for (int i = 1; i < candidateLists.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, candidateLists.get(i));
+        }
+
+        for (Term term : clause) {
+            if (term.negated && result.length > 0) {
+                result = filter(result, books, term.text, false);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find all books with a title containing the text of a term.
+     * @param term term to be matched, its negation is ignored.
+     * @param index index of titles of the given books.
+     * @param books list of books, ids are positions in this list.
+     * @return ids of matching books in ascending order.
+     */
+    private static int[] findCandidates(Term term, TitleWordIndex index, List<BookEntry> books) {
+        String[] words = TitleWordIndex.words(term.text);
+        int[] result = index.findContaining(words[0]);
+        for (int i = 1; i < words.length && result.length > 0; i++) {
+            result = PostingList.intersect(result, index.findContaining(words[i]));
+        }
+
+        // words of a phrase may occur in a title without forming the phrase
+        if (term.text.chars().anyMatch(Character::isWhitespace)) {
+            result = filter(result, books, term.text, true);
+        }
+        return result;
+    }
+
+    /**
+     * Keep only books which contain, or do not contain, a given text in their title.
+     * @param ids ids of books to be filtered.
+     * @param books list of books, ids are positions in this list.
+     * @param text text checked to be contained in the titles.
+     * @param contained {@code true} to keep books containing the text, {@code false} to keep the others.
+     * @return filtered ids in ascending order.
+     */
+    private static int[] filter(int[] ids, List<BookEntry> books, String text, boolean contained) {
+        return Arrays.stream(ids)
+                .filter(id -> Utils.containsIgnoreCase(books.get(id).getTitle(), text) == contained)
+                .toArray();
+    }
+}
@@ -0,0 +1,83 @@
+import java.util.List;
+
+/**
+ * Secondary index of the books of a library, kept up-to-date by the library.
+ *
+ * Once built, see {@link IndexType}, an index is notified of every change of the books.
+ * Ids of books are positions in {@link LibraryData#getStoredBooks()}. Removed books keep
+ * their positions until the list is compacted, and readers skip them, so an index may
+ * keep them until then. An index which cannot follow a change is dropped and rebuilt
+ * when it is needed again.
+ */
+public interface SecondaryIndex {
+
+    /**
+     * Update the index after a book was appended.
+     * @param id id of the added book, greater than ids of all indexed books.
+     * @param book added book.
+     * @return {@code true} if the index was updated, {@code false} if it has to be rebuilt.
+     */
+    boolean added(int id, BookEntry book);
+
+    /**
+     * Update the index after books were appended in a batch.
+     * By default, each book is added on its own.
+     *
+     * @param firstId id of the first added book.
+     * @param books added books in order of their ids.
+     * @return {@code true} if the index was updated, {@code false} if it has to be rebuilt.
+     */
+    default boolean addedAll(int firstId, List<BookEntry> books) {
+        for (int i = 0; i < books.size(); i++) {
+            if (!added(firstId + i, books.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Update the index after a book was marked as removed. It keeps its position,
+     * so by default nothing is done.
+     * @param id id of the removed book.
+     * @param book removed book.
+     */
+    default void removed(int id, BookEntry book) {
+        // readers skip removed books
+    }
+
+    /**
+     * Update the index after a book marked as removed was restored at its position.
+     * By default, nothing is done, see {@link SecondaryIndex#removed(int, BookEntry)}.
+     * @param id id of the restored book.
+     * @param book restored book.
+     */
+    default void restored(int id, BookEntry book) {
+        // removed books were kept
+    }
+
+    /**
+     * Update the index after removed books were dropped and the following ones moved forward.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code true} if the index was updated, {@code false} if it has to be rebuilt.
+     */
+    boolean compacted(int[] removed);
+
+    /**
+     * Update the index after books were inserted and the following ones moved back.
+     * By default, the index is rebuilt.
+     *
+     * @param ids ids of the inserted books after insertion in ascending order.
+     * @param books inserted books in order of their ids.
+     * @return {@code true} if the index was updated, {@code false} if it has to be rebuilt.
+     */
+    default boolean inserted(int[] ids, BookEntry[] books) {
+        return false;
+    }
+
+    /**
+     * Estimate the memory taken by the index.
+     * @return approximate size of the index in bytes.
+     */
+    long memoryBytes();
+}
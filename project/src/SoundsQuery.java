@@ -0,0 +1,46 @@
+import java.util.Objects;
+
+/**
+ * Query for books with an author whose name sounds like a given name,
+ * e.g. {@code Tolstoi} finds books of "Leo Tolstoy".
+ */
+public class SoundsQuery implements BookQuery {
+
+    /** Name which names of authors have to sound like. */
+    private final String name;
+
+    /**
+     * Create a query.
+     * @param name name which names of authors have to sound like.
+     * @throws NullPointerException if the name is null.
+     */
+    public SoundsQuery(String name) {
+        this.name = Objects.requireNonNull(name, "Given name must not be null.");
+    }
+
+    /**
+     * Check whether an input has the form of a query by sound, a name which contains
+     * no operator of a boolean query. Whether the name can be encoded is not checked,
+     * so that such a name is rejected instead of being searched for in titles.
+     *
+     * @param input input to be checked.
+     * @return {@code true} if the input has the form of a query by sound, otherwise {@code false}.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static boolean hasQueryForm(String input) {
+        return !SearchQuery.containsOperator(input);
+    }
+
+    /**
+     * Find all books where every word of {@link SoundsQuery#name} has the same
+     * phonetic code as a word of a name of one of their authors.
+     * Codes are looked up in an index, so no book or name is encoded.
+     *
+     * @param data library to be searched, its books must not be null.
+     * @return ids of matching books in ascending order.
+     */
+    @Override
+    public int[] evaluate(LibraryData data) {
+        return data.getPhoneticAuthorIndex().findSounding(name);
+    }
+}
@@ -0,0 +1,295 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Inverted index from lower case terms of books to ids of books, where
+ * an id is the position of a book in the list of books of a library.
+ *
+ * Subclasses define which terms a book consists of.
+ *
+ * For substring lookups, all terms are also kept in one contiguous buffer,
+ * so a lookup is a single {@link String#indexOf} pass over the vocabulary
+ * instead of one call per term.
+ */
+public abstract class TermIndex implements SecondaryIndex {
+
+    /** Character separating terms in {@link TermIndex#termBuffer}. */
+    private static final char TERM_SEPARATOR = '\0';
+    /** Approximate size of the objects kept for each term, besides its characters and ids. */
+    private static final int TERM_OVERHEAD_BYTES = 96;
+
+    /** Posting list of each term of any book. */
+    private final Map<String, PostingList> postings;
+    /** Terms in order of insertion. */
+    private final List<String> termOrder;
+    /** Posting lists of the terms in {@link TermIndex#termOrder}. */
+    private final List<PostingList> termPostings;
+    /** All terms, each followed by a separator, or {@code null} if terms were added since it was built. */
+    private String termBuffer;
+    /** Start of each term in {@link TermIndex#termBuffer}. */
+    private int[] termStarts;
+
+    /** Create an empty index. */
+    protected TermIndex() {
+        postings = new HashMap<>();
+        termOrder = new ArrayList<>();
+        termPostings = new ArrayList<>();
+    }
+
+    /**
+     * Get lower case terms of a book.
+     * @param book book to be indexed.
+     * @return terms of the book, empty terms are ignored.
+     */
+    protected abstract String[] terms(BookEntry book);
+
+    /**
+     * Called when a term is added to the index for the first time.
+     * By default, it does nothing.
+     * @param term new term of the index.
+     */
+    protected void termAdded(String term) {
+        // nothing to do by default
+    }
+
+    /**
+     * Add all given books to an empty index.
+     * @param books list of books, ids are positions in this list.
+     * @throws NullPointerException if the list or any book in it is null.
+     */
+    public void addAll(List<BookEntry> books) {
+        Objects.requireNonNull(books, "List of books must not be null.");
+
+        for (int id = 0; id < books.size(); id++) {
+            add(id, books.get(id));
+        }
+    }
+
+    /**
+     * Add a book to the index.
+     * @param id id of the book, greater than ids of all indexed books.
+     * @param book book to be added.
+     * @throws NullPointerException if the book is null.
+     */
+    public void add(int id, BookEntry book) {
+        Objects.requireNonNull(book, "Book must not be null.");
+
+        for (String term : terms(book)) {
+            if (!term.isEmpty()) {
+                postings.computeIfAbsent(term, key -> {
+                    PostingList list = new PostingList();
+                    termOrder.add(key);
+                    termPostings.add(list);
+                    termBuffer = null;
+                    termAdded(key);
+                    return list;
+                }).add(id);
+            }
+        }
+    }
+
+    /**
+     * Replace ids after books were removed and the following ones moved forward,
+     * so the index does not have to be rebuilt. Terms without any book are dropped.
+     *
+     * @param removed ids of removed books in ascending order.
+     * @throws NullPointerException if the given array is null.
+     */
+    public void remap(int[] removed) {
+        Objects.requireNonNull(removed, "Removed ids must not be null.");
+
+        int kept = 0;
+        for (int term = 0; term < termOrder.size(); term++) {
+            PostingList list = termPostings.get(term);
+            list.remap(removed);
+            if (list.size() == 0) {
+                postings.remove(termOrder.get(term));
+            } else {
+                termOrder.set(kept, termOrder.get(term));
+                termPostings.set(kept, list);
+                kept++;
+            }
+        }
+        termOrder.subList(kept, termOrder.size()).clear();
+        termPostings.subList(kept, termPostings.size()).clear();
+        termBuffer = null;
+    }
+
+    /**
+     * Add a book appended to the library.
+     * @param id id of the book, greater than ids of all indexed books.
+     * @param book added book.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean added(int id, BookEntry book) {
+        add(id, book);
+        return true;
+    }
+
+    /**
+     * Replace ids after books were dropped from the library, see {@link TermIndex#remap(int[])}.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code true}, as the index is always updated.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        remap(removed);
+        return true;
+    }
+
+    /**
+     * Estimate the memory taken by the terms and posting lists of the index.
+     * @return approximate size of the index in bytes.
+     */
+    @Override
+    public long memoryBytes() {
+        long bytes = termBuffer == null ? 0 : termBuffer.length() + (long) Integer.BYTES * termStarts.length;
+        for (int term = 0; term < termOrder.size(); term++) {
+            bytes += TERM_OVERHEAD_BYTES + termOrder.get(term).length()
+                    + (long) Integer.BYTES * termPostings.get(term).size();
+        }
+        return bytes;
+    }
+
+    /**
+     * Get all distinct terms in the index.
+     * @return unmodifiable list of terms in order of insertion.
+     */
+    public List<String> getTerms() {
+        return Collections.unmodifiableList(termOrder);
+    }
+
+    /**
+     * Get number of distinct terms in the index.
+     * @return number of terms.
+     */
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Find all books with a term containing a given text, ignoring case.
+     * Only the terms are scanned, not the books.
+     *
+     * @param text text to be contained in a term.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] findContaining(String text) {
+        String lowerText = text.toLowerCase();
+        if (lowerText.indexOf(TERM_SEPARATOR) != -1) {
+            return findContainingPerTerm(lowerText);
+        }
+
+        if (termOrder.isEmpty()) {
+            return new int[0];
+        }
+        if (termBuffer == null) {
+            buildTermBuffer();
+        }
+
+        PostingList singleMatch = null;
+        BitSet hits = null;
+        int position = termBuffer.indexOf(lowerText);
+        while (position != -1) {
+            // a match cannot span a separator, so it lies within a single term
+            int term = Arrays.binarySearch(termStarts, position);
+            if (term < 0) {
+                term = -term - 2;
+            }
+
+            PostingList list = termPostings.get(term);
+            if (singleMatch == null && hits == null) {
+                singleMatch = list;
+            } else {
+                if (hits == null) {
+                    hits = new BitSet();
+                    setAll(hits, singleMatch);
+                }
+                setAll(hits, list);
+            }
+
+            if (term + 1 == termStarts.length) {
+                break;
+            }
+            position = termBuffer.indexOf(lowerText, termStarts[term + 1]);
+        }
+
+        if (hits != null) {
+            return hits.stream().toArray();
+        }
+        return singleMatch == null ? new int[0] : singleMatch.toArray();
+    }
+
+    /**
+     * Find all books with a term containing a given lower case text by checking each term.
+     * Used if the text contains {@link TermIndex#TERM_SEPARATOR}.
+     *
+     * @param lowerText lower case text to be contained in a term.
+     * @return ids of matching books in ascending order.
+     */
+    private int[] findContainingPerTerm(String lowerText) {
+        BitSet hits = new BitSet();
+        for (int term = 0; term < termOrder.size(); term++) {
+            if (termOrder.get(term).contains(lowerText)) {
+                setAll(hits, termPostings.get(term));
+            }
+        }
+        return hits.stream().toArray();
+    }
+
+    /** Concatenate all terms into {@link TermIndex#termBuffer}. */
+    private void buildTermBuffer() {
+        StringBuilder buffer = new StringBuilder();
+        termStarts = new int[termOrder.size()];
+        for (int term = 0; term < termOrder.size(); term++) {
+            termStarts[term] = buffer.length();
+            buffer.append(termOrder.get(term)).append(TERM_SEPARATOR);
+        }
+        termBuffer = buffer.toString();
+    }
+
+    /**
+     * Find all books with a given term.
+     * @param term term of the index.
+     * @return ids of matching books in ascending order.
+     */
+    protected int[] find(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? new int[0] : list.toArray();
+    }
+
+    /**
+     * Find all books with any of the given terms.
+     * @param terms terms of the index.
+     * @return ids of matching books in ascending order.
+     */
+    protected int[] findAny(Collection<String> terms) {
+        BitSet hits = new BitSet();
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                setAll(hits, list);
+            }
+        }
+        return hits.stream().toArray();
+    }
+
+    /**
+     * Set bits of all ids of a posting list.
+     * @param bits bit set to be updated.
+     * @param list posting list of ids.
+     */
+    private static void setAll(BitSet bits, PostingList list) {
+        for (int id : list.toArray()) {
+            bits.set(id);
+        }
+    }
+}
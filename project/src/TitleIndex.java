@@ -0,0 +1,39 @@
+import java.util.List;
+
+/**
+ * Inverted index from lower case titles to ids of books with that title.
+ * Titles can repeat, so a title may have several books.
+ */
+public class TitleIndex extends TermIndex {
+
+    /**
+     * Create an index of all given books.
+     * @param books list of books, ids are positions in this list.
+     * @return index of the given books.
+     * @throws NullPointerException if the list or any book in it is null.
+     */
+    public static TitleIndex build(List<BookEntry> books) {
+        TitleIndex index = new TitleIndex();
+        index.addAll(books);
+        return index;
+    }
+
+    /**
+     * Find all books with a given title, ignoring case.
+     * @param title title of a book.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] findTitle(String title) {
+        return find(title.toLowerCase());
+    }
+
+    /**
+     * Get lower case title of a book.
+     * @param book book to be indexed.
+     * @return title of the book.
+     */
+    @Override
+    protected String[] terms(BookEntry book) {
+        return new String[] {book.getTitle().toLowerCase()};
+    }
+}
@@ -0,0 +1,82 @@
+import java.util.List;
+
+/**
+ * Inverted index from lower case words of book titles to ids of books.
+ *
+ * A text without whitespace is contained in a title exactly if it is contained
+ * in one of its words, so {@link TermIndex#findContaining} only scans the vocabulary.
+ */
+public class TitleWordIndex extends TermIndex {
+
+    /** Delimiter between words of a title. */
+    private static final String WORD_DELIMITER = "\\s+";
+
+    /** All words of the index for finding similar words. */
+    private final BkTree vocabulary;
+
+    /** Create an empty index. */
+    public TitleWordIndex() {
+        vocabulary = new BkTree();
+    }
+
+    /**
+     * Create an index of all given books.
+     * @param books list of books, ids are positions in this list.
+     * @return index of the given books.
+     * @throws NullPointerException if the list or any book in it is null.
+     */
+    public static TitleWordIndex build(List<BookEntry> books) {
+        TitleWordIndex index = new TitleWordIndex();
+        index.addAll(books);
+        return index;
+    }
+
+    /**
+     * Split a text into lower case words.
+     * @param text text to be split.
+     * @return lower case words of the text.
+     */
+    public static String[] words(String text) {
+        return text.toLowerCase().strip().split(WORD_DELIMITER);
+    }
+
+    /**
+     * Get lower case words of the title of a book.
+     * @param book book to be indexed.
+     * @return words of the title.
+     */
+    @Override
+    protected String[] terms(BookEntry book) {
+        return words(book.getTitle());
+    }
+
+    /**
+     * Keep ids after books were dropped from the library. Words of dropped books
+     * cannot be removed from {@link TitleWordIndex#vocabulary}, so the index is rebuilt.
+     * @param removed ids of dropped books in ascending order.
+     * @return {@code false}, as the index has to be rebuilt.
+     */
+    @Override
+    public boolean compacted(int[] removed) {
+        return false;
+    }
+
+    /**
+     * Add a new word to {@link TitleWordIndex#vocabulary}.
+     * @param term new word of the index.
+     */
+    @Override
+    protected void termAdded(String term) {
+        vocabulary.add(term);
+    }
+
+    /**
+     * Find all books with a title containing a word similar to a given word, ignoring case.
+     * @param word word without whitespace.
+     * @param maxDistance maximum Levenshtein distance between the word and a word of a title.
+     * @return ids of matching books in ascending order.
+     */
+    public int[] findSimilar(String word, int maxDistance) {
+        return findAny(vocabulary.findWithin(word.toLowerCase(), maxDistance));
+    }
+}
@@ -0,0 +1,178 @@
+import java.util.BitSet;
+
+/**
+ * Set of positions of removed books which are still in a list.
+ *
+ * Besides membership, it answers how many positions below a given one are marked,
+ * and which position holds the n-th unmarked book, in logarithmic time. Both are
+ * answered by a Fenwick tree of marked positions, which is built on the first such
+ * query and kept up-to-date by later changes, so a set without queries costs one bit
+ * per position.
+ */
+public class TombstoneSet {
+
+    /** Smallest capacity of the Fenwick tree. */
+    private static final int MIN_CAPACITY = 64;
+
+    /** Marked positions. */
+    private final BitSet marked;
+    /** Number of marked positions. */
+    private int count;
+    /** Fenwick tree of marked positions below its capacity, null if it has to be rebuilt. */
+    private int[] tree;
+
+    /** Create an empty set. */
+    public TombstoneSet() {
+        marked = new BitSet();
+    }
+
+    /**
+     * Check whether a position is marked.
+     * @param id position to be checked.
+     * @return {@code true} if the position is marked, otherwise {@code false}.
+     */
+    public boolean get(int id) {
+        return marked.get(id);
+    }
+
+    /**
+     * Mark a position.
+     * @param id position to be marked.
+     */
+    public void set(int id) {
+        if (!marked.get(id)) {
+            marked.set(id);
+            count++;
+            update(id, 1);
+        }
+    }
+
+    /**
+     * Unmark a position.
+     * @param id position to be unmarked.
+     */
+    public void clear(int id) {
+        if (marked.get(id)) {
+            marked.clear(id);
+            count--;
+            update(id, -1);
+        }
+    }
+
+    /** Unmark all positions. */
+    public void clear() {
+        marked.clear();
+        count = 0;
+        tree = null;
+    }
+
+    /**
+     * Get number of marked positions.
+     * @return {@link TombstoneSet#count}.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Check whether no position is marked.
+     * @return {@code true} if no position is marked, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Find the first unmarked position from a given one on.
+     * @param from first position to be checked.
+     * @return first unmarked position at or after the given one.
+     */
+    public int nextClearBit(int from) {
+        return marked.nextClearBit(from);
+    }
+
+    /**
+     * Get all marked positions.
+     * @return marked positions in ascending order.
+     */
+    public int[] toArray() {
+        return marked.stream().toArray();
+    }
+
+    /**
+     * Count marked positions below a given one.
+     * @param id position, not negative.
+     * @return number of marked positions less than the given one.
+     */
+    public int countBefore(int id) {
+        ensureTree(id);
+        int sum = 0;
+        for (int i = id; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Find the position of an unmarked book from its rank among unmarked ones.
+     * @param rank number of unmarked positions before the one searched for, not negative.
+     * @return unmarked position with the given number of unmarked positions before it.
+     */
+    public int findUnmarked(int rank) {
+        ensureTree(rank + count);
+        int capacity = tree.length - 1;
+        int position = 0;
+        int remaining = rank;
+        for (int step = Integer.highestOneBit(capacity); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= capacity && step - tree[next] <= remaining) {
+                position = next;
+                remaining -= step - tree[next];
+            }
+        }
+        // positions at or after the capacity are all unmarked
+        return position + remaining;
+    }
+
+    /**
+     * Add a change of a position to the Fenwick tree, or drop it if it is too small.
+     * @param id changed position.
+     * @param delta 1 if the position was marked, -1 if it was unmarked.
+     */
+    private void update(int id, int delta) {
+        if (tree == null) {
+            return;
+        }
+        if (id >= tree.length - 1) {
+            tree = null;
+            return;
+        }
+        for (int i = id + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Build the Fenwick tree in linear time unless it covers a given position and all marked ones.
+     * Its capacity is doubled, so positions appended later are covered as well.
+     * @param id position to be covered.
+     */
+    private void ensureTree(int id) {
+        int needed = Math.max(id, marked.length());
+        if (tree != null && needed < tree.length) {
+            return;
+        }
+
+        int capacity = Math.max(MIN_CAPACITY, needed * 2);
+        tree = new int[capacity + 1];
+        for (int i = marked.nextSetBit(0); i >= 0; i = marked.nextSetBit(i + 1)) {
+            tree[i + 1]++;
+        }
+        for (int i = 1; i <= capacity; i++) {
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
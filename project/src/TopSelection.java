@@ -0,0 +1,87 @@
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Selection of the k books with the highest value of a {@link NumericField},
+ * e.g. {@code TOP 10 BY RATING}.
+ */
+public class TopSelection {
+
+    /** Keyword starting a selection. */
+    public static final String TOP_KEYWORD = "TOP";
+    /** Keyword between the number of books and the field. */
+    private static final String BY_KEYWORD = "BY";
+    /** Gap between parts of a selection. */
+    private static final String PADDING = " ";
+
+    /** Maximum number of selected books. */
+    private final int limit;
+    /** Field the books are ranked by. */
+    private final NumericField field;
+
+    /**
+     * Create a selection.
+     * @param limit maximum number of selected books.
+     * @param field field the books are ranked by.
+     */
+    private TopSelection(int limit, NumericField field) {
+        this.limit = limit;
+        this.field = field;
+    }
+
+    /**
+     * Parse a selection of the form "{@value TOP_KEYWORD} k {@value BY_KEYWORD} field".
+     * @param input selection to be parsed.
+     * @return parsed selection, or {@code null} if the selection is invalid.
+     * @throws NullPointerException if the given input is null.
+     */
+    public static TopSelection parse(String input) {
+        Objects.requireNonNull(input, "Given selection must not be null.");
+
+        String[] parts = input.split(PADDING, -1);
+        if (parts.length != 4 || !parts[0].equals(TOP_KEYWORD) || !parts[2].equals(BY_KEYWORD)) {
+            return null;
+        }
+
+        int limit = Utils.parsePositiveInt(parts[1]);
+        for (NumericField field : NumericField.values()) {
+            if (field.name().equals(parts[3])) {
+                return limit > 0 ? new TopSelection(limit, field) : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Select the best books among given ones.
+     *
+     * Only the best {@link TopSelection#limit} books seen so far are kept in a heap
+     * with the worst of them on top, so neither all ids are sorted nor copied.
+     *
+     * @param ids ids of books to select from, in ascending order.
+     * @param books list of books, ids are positions in this list.
+     * @return ids of the selected books, best first. Equal books are in library order.
+     */
+    public int[] select(int[] ids, List<BookEntry> books) {
+        Comparator<Integer> worstFirst = Comparator.<Integer>comparingDouble(id -> field.of(books.get(id)))
+                .thenComparing(Comparator.reverseOrder());
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(limit, Math.max(1, ids.length)), worstFirst);
+
+        for (int id : ids) {
+            if (best.size() < limit) {
+                best.add(id);
+            } else if (worstFirst.compare(id, best.peek()) > 0) {
+                best.poll();
+                best.add(id);
+            }
+        }
+
+        int[] selected = new int[best.size()];
+        for (int i = selected.length - 1; i >= 0; i--) {
+            selected[i] = best.poll();
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,61 @@
+import java.util.Objects;
+
+/**
+ * Transaction command used to group changes of a library: {@link CommandType#BEGIN}
+ * opens a transaction whose changes are staged and not visible to other commands,
+ * {@link CommandType#COMMIT} applies them as a single change for {@link UndoCmd},
+ * and {@link CommandType#ROLLBACK} discards all of them.
+ */
+public class TransactionCmd extends LibraryCommand {
+
+    /** Message displayed after a transaction was opened. */
+    private static final String BEGIN_MESSAGE = "Transaction started.";
+    /** Message displayed after a transaction was committed. */
+    private static final String COMMIT_MESSAGE = "Transaction committed.";
+    /** Message displayed after a transaction was rolled back. */
+    private static final String ROLLBACK_MESSAGE = "Transaction rolled back.";
+    /** Message displayed if a transaction is opened while another one is open. */
+    private static final String ALREADY_OPEN_MESSAGE = "Transaction already in progress.";
+    /** Message displayed if there is no transaction to be committed or rolled back. */
+    private static final String NOT_OPEN_MESSAGE = "No transaction in progress.";
+
+    /**
+     * Create a transaction command.
+     * @param type {@link CommandType#BEGIN}, {@link CommandType#COMMIT} or {@link CommandType#ROLLBACK}.
+     * @param argumentInput argument input is expected to be blank.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public TransactionCmd(CommandType type, String argumentInput) {
+        super(type, argumentInput);
+        if (type != CommandType.BEGIN && type != CommandType.COMMIT && type != CommandType.ROLLBACK) {
+            throw new IllegalArgumentException("Not a transaction command: " + type);
+        }
+    }
+
+    /**
+     * Open, commit or roll back a transaction of the library according to the type
+     * of this command, and display the outcome.
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        switch (getType()) {
+            case BEGIN:
+                System.out.println(data.begin() ? BEGIN_MESSAGE : ALREADY_OPEN_MESSAGE);
+                break;
+            case COMMIT:
+                System.out.println(data.commit() ? COMMIT_MESSAGE : NOT_OPEN_MESSAGE);
+                break;
+            case ROLLBACK:
+                System.out.println(data.rollback() ? ROLLBACK_MESSAGE : NOT_OPEN_MESSAGE);
+                break;
+            default:
+                throw new IllegalArgumentException("The given type is invalid.");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+import java.util.Objects;
+
+/**
+ * Undo command used to revert the most recent change of a library,
+ * i.e. books added by {@link AddCmd} or removed by {@link RemoveCmd}.
+ */
+public class UndoCmd extends LibraryCommand {
+
+    /** Message displayed after a change was undone. */
+    private static final String UNDONE_MESSAGE = "Last change undone.";
+    /** Message displayed if there is no change to be undone. */
+    private static final String NOTHING_MESSAGE = "Nothing to undo.";
+    /** Message displayed if a transaction is open. */
+    private static final String IN_TRANSACTION_MESSAGE = "UNDO is not available inside a transaction.";
+
+    /**
+     * Create an undo command.
+     * @param argumentInput argument input is expected to be blank.
+     * @throws IllegalArgumentException if given arguments are invalid.
+     * @throws NullPointerException if given arguments are null.
+     * @see LibraryCommand#LibraryCommand for errors handling.
+     */
+    public UndoCmd(String argumentInput) {
+        super(CommandType.UNDO, argumentInput);
+    }
+
+    /**
+     * Undo the most recent change of the library, and display whether there was one.
+     * Changes cannot be undone while a transaction is open.
+     * @param data book data to be considered for command execution.
+     * @throws NullPointerException if a given argument is null.
+     */
+    @Override
+    public void execute(LibraryData data) {
+        Objects.requireNonNull(data, "Library data must not be null.");
+
+        if (data.inTransaction()) {
+            System.out.println(IN_TRANSACTION_MESSAGE);
+        } else {
+            System.out.println(data.undo() ? UNDONE_MESSAGE : NOTHING_MESSAGE);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -10,6 +11,20 @@ import java.util.Set;
  */
 public final class Utils {
 
+    /** Number of ASCII characters. */
+    private static final int ASCII_SIZE = 128;
+    /** Minimum length of a substring searched for with Boyer-Moore-Horspool, shorter ones skip too little. */
+    private static final int HORSPOOL_MIN_LENGTH = 12;
+    /**
+     * Minimum length of a string searched in with Boyer-Moore-Horspool, shorter ones do not pay off its skip table.
+     * About one in eight titles of the sample data is at least this long, see {@code ContainsIgnoreCaseBenchmark}.
+     */
+    private static final int HORSPOOL_MIN_TEXT_LENGTH = 64;
+    /** Difference between a lower case ASCII letter and its upper case. */
+    private static final int ASCII_CASE_OFFSET = 'a' - 'A';
+    /** Reused skip table of Boyer-Moore-Horspool for each thread. */
+    private static final ThreadLocal<int[]> SKIP_TABLE = ThreadLocal.withInitial(() -> new int[ASCII_SIZE]);
+
     /** Not to be used. */
     private Utils() {
         throw new UnsupportedOperationException("This constructor should never be used.");
@@ -19,13 +34,15 @@ public final class Utils {
      * Get list of books in library if this list is not null and all entries are not null.
      * Otherwise, throw a corresponding exception.
      *
+     * The list includes removed books which were not compacted yet, see {@link LibraryData#isRemoved(int)}.
+     *
      * @param data a given library of books.
-     * @return list of books of a library
+     * @return list of books of a library, see {@link LibraryData#getStoredBooks()}.
      * @throws NullPointerException if library is empty, list of books is empty, or any book is empty.
      */
     public static List<BookEntry> getNonNullBookData(LibraryData data) {
         Objects.requireNonNull(data, "Library data must not be null.");
-        List<BookEntry> books = data.getBookData();
+        List<BookEntry> books = data.getStoredBooks();
 
         Objects.requireNonNull(books, "List of books must not be null.");
 
@@ -64,11 +81,153 @@ public final class Utils {
 
     /**
      * Check whether a given string contains a given substring (case-insensitive).
+     *
+     * If both strings are ASCII, characters are compared in place without creating
+     * lower case copies, using Boyer-Moore-Horspool for long substrings of long strings.
+     * Otherwise, both strings are converted to lower case, as case-insensitive
+     * comparison of single characters also matches e.g. the long s to {@code s}.
+     *
      * @param str we check if a substring is contained in it.
      * @param subString we check if it is contained in a string.
      * @return {@code true} if str contains substring, otherwise {@code false}.
      */
     public static boolean containsIgnoreCase(String str, String subString) {
-        return str.toLowerCase().contains(subString.toLowerCase());
+        if (subString.length() > str.length()) {
+            return false;
+        }
+        if (!isAscii(subString) || !isAscii(str) || !isAsciiCaseLocale()) {
+            return str.toLowerCase().contains(subString.toLowerCase());
+        }
+        if (subString.length() >= HORSPOOL_MIN_LENGTH && str.length() >= HORSPOOL_MIN_TEXT_LENGTH) {
+            return horspoolIndexOfIgnoreCase(str, subString) != -1;
+        }
+        return indexOfIgnoreCase(str, subString) != -1;
+    }
+
+    /**
+     * Check whether a string consists of ASCII characters only.
+     * @param str string to be checked.
+     * @return {@code true} if all characters are ASCII, otherwise {@code false}.
+     */
+    private static boolean isAscii(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) >= ASCII_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether lower case of ASCII letters in the default locale is ASCII as well,
+     * which is not the case e.g. for the Turkish dotless i.
+     * @return {@code true} if ASCII letters can be compared directly, otherwise {@code false}.
+     */
+    private static boolean isAsciiCaseLocale() {
+        String language = Locale.getDefault().getLanguage();
+        return !language.equals("tr") && !language.equals("az");
+    }
+
+    /**
+     * Find an ASCII substring in an ASCII string ignoring case, checking every candidate
+     * position starting with the first character of the substring.
+     * @param str ASCII string searched in.
+     * @param subString ASCII string searched for.
+     * @return first index of the substring, or {@code -1} if it is not contained.
+     */
+    private static int indexOfIgnoreCase(String str, String subString) {
+        if (subString.isEmpty()) {
+            return 0;
+        }
+
+        char lowerFirst = toLowerAscii(subString.charAt(0));
+        char upperFirst = Character.toUpperCase(lowerFirst);
+        int last = str.length() - subString.length();
+        for (int start = 0; start <= last; start++) {
+            char c = str.charAt(start);
+            if ((c == lowerFirst || c == upperFirst) && regionMatchesAscii(str, start + 1, subString, 1)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find an ASCII substring in an ASCII string ignoring case using Boyer-Moore-Horspool.
+     * After a mismatch, the window skips ahead by the distance of the character under
+     * its last position to the last occurrence of that character in the substring.
+     *
+     * @param str ASCII string searched in.
+     * @param subString non-empty ASCII string searched for.
+     * @return first index of the substring, or {@code -1} if it is not contained.
+     */
+    private static int horspoolIndexOfIgnoreCase(String str, String subString) {
+        int length = subString.length();
+        int[] skip = SKIP_TABLE.get();
+        Arrays.fill(skip, length);
+        for (int i = 0; i < length - 1; i++) {
+            char c = subString.charAt(i);
+            skip[Character.toLowerCase(c)] = length - 1 - i;
+            skip[Character.toUpperCase(c)] = length - 1 - i;
+        }
+
+        int start = 0;
+        while (start <= str.length() - length) {
+            if (regionMatchesAscii(str, start, subString, 0)) {
+                return start;
+            }
+            start += skip[str.charAt(start + length - 1)];
+        }
+        return -1;
+    }
+
+    /**
+     * Check whether the rest of an ASCII substring occurs at a position of an ASCII string, ignoring case.
+     * @param str ASCII string searched in, long enough to hold the rest at the position.
+     * @param offset position in the string.
+     * @param subString ASCII string searched for.
+     * @param from first character of the substring to be compared.
+     * @return {@code true} if the characters match ignoring case, otherwise {@code false}.
+     */
+    private static boolean regionMatchesAscii(String str, int offset, String subString, int from) {
+        for (int i = from; i < subString.length(); i++) {
+            if (toLowerAscii(str.charAt(offset + i - from)) != toLowerAscii(subString.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Convert an ASCII character to lower case.
+     * @param c ASCII character.
+     * @return lower case of the character if it is an upper case letter, otherwise the character itself.
+     */
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ASCII_CASE_OFFSET) : c;
+    }
+
+    /**
+     * Append a value followed by a line separator, the same way
+     * {@link java.io.PrintStream#println(Object)} would print it.
+     * @param sb builder the line is appended to.
+     * @param value value to be appended.
+     */
+    public static void appendLine(StringBuilder sb, Object value) {
+        sb.append(value).append(System.lineSeparator());
+    }
+
+    /**
+     * Parse a positive integer.
+     * @param str string to be parsed.
+     * @return parsed integer, or {@code -1} if the string is not a positive integer.
+     */
+    public static int parsePositiveInt(String str) {
+        try {
+            int value = Integer.parseInt(str);
+            return value > 0 ? value : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
     }
 }
@@ -0,0 +1,85 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Bm25IndexBasicTest {
+
+    private static final String QUERY = "red fox";
+
+    private List<BookEntry> books;
+    private Bm25Index index;
+
+    @Before
+    public void setup() {
+        books = new ArrayList<>();
+        for (String title : new String[] { "Red Hat", "Fox Hat", "Fox Cap", "Fox Box", "Red Cap", "Cap Box", "Hat Box", "Cap Hat" }) {
+            books.add(new BookEntry(title, new String[] { "AuthorA" }, 3.0f, "ISBN" + books.size(), 100));
+        }
+        index = Bm25Index.build(books, id -> false);
+    }
+
+    // ------------------------- rank tests --------------------
+
+    @Test
+    public void testRankRarerWordFirst() {
+        assertArrayEquals("Titles with the rarer word not ranked first.", new int[] { 0, 4, 1, 2, 3 },
+                index.rank(QUERY, 10, id -> false));
+    }
+
+    @Test
+    public void testRankChangesAfterRemove() {
+        index.removed(2, books.get(2));
+        index.removed(3, books.get(3));
+        assertArrayEquals("Removed titles still counted in statistics.", new int[] { 1, 0, 4 },
+                index.rank(QUERY, 10, id -> id == 2 || id == 3));
+        assertArrayEquals("Index differs from one built without removed titles.",
+                Bm25Index.build(books, id -> id == 2 || id == 3).rank(QUERY, 10, id -> id == 2 || id == 3),
+                index.rank(QUERY, 10, id -> id == 2 || id == 3));
+
+        index.restored(2, books.get(2));
+        index.restored(3, books.get(3));
+        assertArrayEquals("Restored titles not counted in statistics.", new int[] { 0, 4, 1, 2, 3 },
+                index.rank(QUERY, 10, id -> false));
+    }
+
+    @Test
+    public void testRankAfterCompaction() {
+        index.removed(2, books.get(2));
+        index.removed(3, books.get(3));
+        assertTrue("Index not remapped.", index.compacted(new int[] { 2, 3 }));
+        books.remove(3);
+        books.remove(2);
+
+        assertArrayEquals("Ids not remapped.", new int[] { 1, 0, 2 }, index.rank(QUERY, 10, id -> false));
+        assertArrayEquals("Index differs from one built after compaction.",
+                Bm25Index.build(books, id -> false).rank(QUERY, 10, id -> false), index.rank(QUERY, 10, id -> false));
+    }
+
+    // ------------------------- library tests --------------------
+
+    @Test
+    public void testRankedSearchChangesAfterRemove() {
+        LibraryData library = new LibraryData();
+        FieldTestUtils.setPrivateField(library, library.getClass(), "books", books);
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("RANKED " + QUERY), library,
+                "Red Hat\nRed Cap\nFox Hat\nFox Cap\nFox Box");
+
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd("TITLE Fox Cap"), library);
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd("TITLE Fox Box"), library);
+        assertEquals("Removed books compacted.", 8, library.getStoredBooks().size());
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("RANKED " + QUERY), library,
+                "Fox Hat\nRed Hat\nRed Cap");
+
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd("TITLE Cap Box"), library);
+        assertEquals("Removed books not compacted.", 5, library.getStoredBooks().size());
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("RANKED " + QUERY), library,
+                "Fox Hat\nRed Hat\nRed Cap");
+        assertEquals("Index rebuilt instead of remapped.", 1, library.getIndexStats().get(IndexType.BM25).getBuilds());
+    }
+}
@@ -0,0 +1,68 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class CacheCmdBasicTest extends CacheCmdTest {
+
+    // ------------------------- parseArguments tests --------------------
+
+    @Test
+    public void testParseArgumentsIllegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, false, "clear");
+        CommandTestUtils.checkArgumentInput(testCommand, false, CLEAR_ARGUMENT + " ALL");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "STATS");
+    }
+
+    @Test
+    public void testParseArgumentsLegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, true, BLANK_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, true, "  ");
+        CommandTestUtils.checkArgumentInput(testCommand, true, CLEAR_ARGUMENT);
+    }
+
+    // ------------------------- execute tests --------------------
+
+    @Test
+    public void testExecuteRepeatedQueriesHit() {
+        checkStats(0, 0, 0);
+        executeQueries();
+        checkStats(3, 0, 3);
+        executeQueries();
+        checkStats(3, 3, 3);
+    }
+
+    @Test
+    public void testExecuteRepeatedQueriesSameOutput() {
+        String[] first = CommandTestUtils.captureExecuteStdOutputLines(new ListCmd("long"), testLibrary);
+        String[] second = CommandTestUtils.captureExecuteStdOutputLines(new ListCmd("long"), testLibrary);
+
+        assertArrayEquals("Cached output differs.", first, second);
+        checkStats(1, 1, 1);
+    }
+
+    @Test
+    public void testExecuteRemoveInvalidates() {
+        executeQueries();
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd(TITLE_ARGUMENT + " TitleB"), testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("title"), testLibrary, "TitleA\nTitleC");
+        checkStats(1, 0, 4);
+    }
+
+    @Test
+    public void testExecuteAddInvalidates() {
+        executeQueries();
+        new AddCmd("booksTestData01.csv").execute(testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("title"), testLibrary, "TitleA\nTitleB\nTitleC");
+        CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd("Changeling"), testLibrary, "The Changeling");
+        checkStats(2, 0, 5);
+    }
+
+    @Test
+    public void testExecuteClear() {
+        executeQueries();
+        CommandTestUtils.checkExecuteConsoleOutput(new CacheCmd(CLEAR_ARGUMENT), testLibrary, CLEARED_MESSAGE);
+        checkStats(0, 0, 3);
+        executeQueries();
+        checkStats(3, 0, 6);
+    }
+}
@@ -0,0 +1,41 @@
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class CacheCmdTest extends CommandTest {
+
+    protected static final String CLEAR_ARGUMENT = "CLEAR";
+    protected static final String CLEARED_MESSAGE = "Query cache cleared.";
+    protected static final String STATS_FORMAT = "Query cache: %d entries, %d hits, %d misses.";
+
+    @Override
+    protected CommandType getCmdType() {
+        return CommandType.CACHE;
+    }
+
+    @Before
+    public void setup() {
+        testCommand = new CacheCmd(BLANK_ARGUMENT);
+
+        testLibrary = new LibraryData();
+        List<BookEntry> bookData = new ArrayList<>();
+        bookData.add(new BookEntry("TitleA", new String[] { "AuthorA" }, 3.2f, "ISBNA", 500));
+        bookData.add(new BookEntry("TitleB", new String[] { "AuthorB" }, 4.3f, "ISBNB", 400));
+        bookData.add(new BookEntry("TitleC", new String[] { "AuthorC" }, 1.3f, "ISBNC", 300));
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", bookData);
+    }
+
+    // ------------------------- test helpers ----------------------------
+
+    protected void checkStats(int entries, long hits, long misses) {
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                String.format(STATS_FORMAT, entries, hits, misses));
+    }
+
+    protected void executeQueries() {
+        CommandTestUtils.captureExecuteStdOutputLines(new SearchCmd("title"), testLibrary);
+        CommandTestUtils.captureExecuteStdOutputLines(new ListCmd("short"), testLibrary);
+        CommandTestUtils.captureExecuteStdOutputLines(new GroupCmd(TITLE_ARGUMENT), testLibrary);
+    }
+}
@@ -0,0 +1,59 @@
+import org.junit.Test;
+
+public class CompleteCmdBasicTest extends CompleteCmdTest {
+
+    // ------------------------- parseArguments tests --------------------
+
+    @Test
+    public void testParseArgumentsIllegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, false, BLANK_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, false, TITLE_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, false, TITLE_ARGUMENT + "  ");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "ISBN 97");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "title har");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "har");
+    }
+
+    @Test
+    public void testParseArgumentsLegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, true, TITLE_ARGUMENT + " har");
+        CommandTestUtils.checkArgumentInput(testCommand, true, AUTHOR_ARGUMENT + " Charles D");
+    }
+
+    // ------------------------- execute tests --------------------
+
+    @Test
+    public void testExecuteTitleRanking() {
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "Harry Potter\nHard Times");
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(TITLE_ARGUMENT + " H"), testLibrary,
+                "Harry Potter\nHamlet\nHard Times");
+    }
+
+    @Test
+    public void testExecuteAuthorRanking() {
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(AUTHOR_ARGUMENT + " J"), testLibrary,
+                "J. K. Rowling\nJim Kay");
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(AUTHOR_ARGUMENT + " charles"), testLibrary,
+                "Charles Dickens");
+    }
+
+    @Test
+    public void testExecuteNothingFound() {
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(TITLE_ARGUMENT + " Harz"), testLibrary,
+                NOTHING_FOUND_MESSAGE + "Harz");
+    }
+
+    @Test
+    public void testExecuteAfterRemove() {
+        testCommand.execute(testLibrary);
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd(TITLE_ARGUMENT + " Hard Times"), testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "Harry Potter");
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(AUTHOR_ARGUMENT + " Charles"), testLibrary,
+                "Charles Dickens");
+
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd(AUTHOR_ARGUMENT + " J. K. Rowling"), testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(TITLE_ARGUMENT + " H"), testLibrary,
+                "Hamlet\nHarry Potter");
+        CommandTestUtils.checkExecuteConsoleOutput(new CompleteCmd(AUTHOR_ARGUMENT + " J"), testLibrary, "Jim Kay");
+    }
+}
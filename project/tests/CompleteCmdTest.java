@@ -0,0 +1,28 @@
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class CompleteCmdTest extends CommandTest {
+
+    protected static final String NOTHING_FOUND_MESSAGE = "No completions found for prefix: ";
+
+    @Override
+    protected CommandType getCmdType() {
+        return CommandType.COMPLETE;
+    }
+
+    @Before
+    public void setup() {
+        testCommand = new CompleteCmd(TITLE_ARGUMENT + " har");
+
+        testLibrary = new LibraryData();
+        List<BookEntry> bookData = new ArrayList<>();
+        bookData.add(new BookEntry("Harry Potter", new String[] { "J. K. Rowling" }, 4.5f, "ISBNA", 500));
+        bookData.add(new BookEntry("Hard Times", new String[] { "Charles Dickens" }, 3.9f, "ISBNB", 400));
+        bookData.add(new BookEntry("Hamlet", new String[] { "William Shakespeare" }, 4.1f, "ISBNC", 300));
+        bookData.add(new BookEntry("Great Expectations", new String[] { "Charles Dickens", "Editor" }, 4.7f, "ISBND", 300));
+        bookData.add(new BookEntry("Harry Potter", new String[] { "Jim Kay" }, 3.1f, "ISBNE", 120));
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", bookData);
+    }
+}
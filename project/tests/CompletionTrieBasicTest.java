@@ -0,0 +1,179 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompletionTrieBasicTest {
+
+    private static final int LIMIT = CompletionTrie.MAX_COMPLETIONS;
+
+    // ------------------------- complete tests --------------------
+
+    @Test
+    public void testCompleteRanking() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Harry Potter", 4.5f);
+        trie.add("Hamlet", 3.9f);
+        trie.add("Hard Times", 4.5f);
+        trie.add("Heidi", 4.9f);
+
+        assertEquals("Completions not ordered by score and value.",
+                List.of("Heidi", "Hard Times", "Harry Potter", "Hamlet"), trie.complete("h", LIMIT));
+        assertEquals("Completions not limited.", List.of("Heidi", "Hard Times"), trie.complete("H", 2));
+        assertEquals("Prefix not matched ignoring case.", List.of("Hard Times", "Harry Potter"), trie.complete("HAR", LIMIT));
+        assertTrue("Missing prefix completed.", trie.complete("Harz", LIMIT).isEmpty());
+    }
+
+    @Test
+    public void testCompleteKeepsBestCompletions() {
+        CompletionTrie trie = new CompletionTrie();
+        for (int i = 0; i < 2 * LIMIT; i++) {
+            trie.add("Title " + (char) ('a' + i), i);
+        }
+
+        List<String> completions = trie.complete("title", LIMIT);
+        assertEquals("Wrong number of completions.", LIMIT, completions.size());
+        assertEquals("Best completion not first.", "Title " + (char) ('a' + 2 * LIMIT - 1), completions.get(0));
+        assertEquals("Worst kept completion not last.", "Title " + (char) ('a' + LIMIT), completions.get(LIMIT - 1));
+    }
+
+    @Test
+    public void testCompleteSharedPrefixes() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Castle", 2f);
+        trie.add("Cast", 3f);
+        trie.add("Catch", 1f);
+        trie.add("Ca", 4f);
+
+        assertEquals("Split node lost completions.", List.of("Ca", "Cast", "Castle", "Catch"), trie.complete("c", LIMIT));
+        assertEquals("Prefix ending inside a label not completed.", List.of("Cast", "Castle"), trie.complete("cas", LIMIT));
+        assertEquals("Prefix ending at a split not completed.", List.of("Cast", "Castle"), trie.complete("cast", LIMIT));
+        assertEquals("Prefix ending at a leaf not completed.", List.of("Catch"), trie.complete("catch", LIMIT));
+        assertTrue("Prefix longer than a value completed.", trie.complete("catcher", LIMIT).isEmpty());
+        assertTrue("Prefix diverging inside a label completed.", trie.complete("casu", LIMIT).isEmpty());
+    }
+
+    @Test
+    public void testCompleteRepeatedValue() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Dune", 3f);
+        trie.add("DUNE", 4.5f);
+        trie.add("Dracula", 4f);
+
+        assertEquals("Repeated value not scored by its best occurrence.", List.of("Dune", "Dracula"),
+                trie.complete("d", LIMIT));
+    }
+
+    // ------------------------- remove tests --------------------
+
+    @Test
+    public void testRemoveUpdatesBest() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Dune", 3f);
+        trie.add("Dune", 4.5f);
+        trie.add("Dracula", 4f);
+
+        assertTrue("Occurrence not removed.", trie.remove("dune", 4.5f));
+        assertEquals("Score of remaining occurrence not used.", List.of("Dracula", "Dune"), trie.complete("d", LIMIT));
+        assertFalse("Missing occurrence removed.", trie.remove("Dune", 4.5f));
+        assertTrue("Occurrence not removed.", trie.remove("Dune", 3f));
+        assertEquals("Removed value completed.", List.of("Dracula"), trie.complete("d", LIMIT));
+        assertTrue("Removed value completed.", trie.complete("du", LIMIT).isEmpty());
+    }
+
+    @Test
+    public void testRemoveRefillsBest() {
+        CompletionTrie trie = new CompletionTrie();
+        for (int i = 0; i <= LIMIT; i++) {
+            trie.add("Title " + (char) ('a' + i), i);
+        }
+
+        trie.remove("Title " + (char) ('a' + LIMIT), LIMIT);
+        List<String> completions = trie.complete("t", LIMIT);
+        assertEquals("Best list not refilled.", LIMIT, completions.size());
+        assertEquals("Dropped completion not restored.", "Title a", completions.get(LIMIT - 1));
+    }
+
+    @Test
+    public void testRemoveMergesNodes() {
+        CompletionTrie trie = new CompletionTrie();
+        trie.add("Castle", 2f);
+        trie.add("Cast", 3f);
+        trie.add("Catch", 1f);
+
+        assertTrue("Inner value not removed.", trie.remove("Cast", 3f));
+        assertEquals("Merged node lost completions.", List.of("Castle", "Catch"), trie.complete("ca", LIMIT));
+        assertEquals("Merged node not completed.", List.of("Castle"), trie.complete("cast", LIMIT));
+        assertTrue("Leaf value not removed.", trie.remove("Catch", 1f));
+        assertEquals("Merged node not completed.", List.of("Castle"), trie.complete("cas", LIMIT));
+        assertFalse("Removed value removed again.", trie.remove("Catch", 1f));
+        trie.add("Cat", 5f);
+        assertEquals("Value added after merge not completed.", List.of("Cat", "Castle"), trie.complete("c", LIMIT));
+    }
+
+    @Test
+    public void testRandomOperationsMatchSortedScan() {
+        Random random = new Random(29);
+        CompletionTrie trie = new CompletionTrie();
+        Map<String, String> values = new HashMap<>();
+        Map<String, TreeMap<Float, Integer>> scores = new HashMap<>();
+        List<String> added = new ArrayList<>();
+        List<Float> addedScores = new ArrayList<>();
+
+        for (int operation = 0; operation < 5000; operation++) {
+            if (added.isEmpty() || random.nextInt(3) > 0) {
+                String value = randomValue(random);
+                float score = random.nextInt(5);
+                trie.add(value, score);
+                values.putIfAbsent(value.toLowerCase(), value);
+                scores.computeIfAbsent(value.toLowerCase(), key -> new TreeMap<>()).merge(score, 1, Integer::sum);
+                added.add(value);
+                addedScores.add(score);
+            } else {
+                int position = random.nextInt(added.size());
+                String value = added.remove(position);
+                float score = addedScores.remove(position);
+                assertTrue("Added occurrence not removed.", trie.remove(value, score));
+                TreeMap<Float, Integer> counts = scores.get(value.toLowerCase());
+                counts.merge(score, -1, Integer::sum);
+                counts.remove(score, 0);
+                if (counts.isEmpty()) {
+                    scores.remove(value.toLowerCase());
+                    values.remove(value.toLowerCase());
+                }
+            }
+
+            String prefix = randomValue(random).substring(0, 1 + random.nextInt(2)).toLowerCase();
+            List<String> expected = scores.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .sorted(Comparator.<String, Float>comparing(key -> scores.get(key).lastKey()).reversed()
+                            .thenComparing(values::get))
+                    .limit(LIMIT)
+                    .map(values::get)
+                    .collect(Collectors.toList());
+            assertEquals("Completions of " + prefix + " differ from a sorted scan.", expected, trie.complete(prefix, LIMIT));
+        }
+    }
+
+    // ------------------------- test helpers ----------------------------
+
+    private static String randomValue(Random random) {
+        StringBuilder value = new StringBuilder();
+        int length = 2 + random.nextInt(4);
+        for (int i = 0; i < length; i++) {
+            char c = (char) ('a' + random.nextInt(3));
+            value.append(random.nextInt(4) == 0 ? Character.toUpperCase(c) : c);
+        }
+        return value.toString();
+    }
+}
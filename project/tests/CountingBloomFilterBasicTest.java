@@ -0,0 +1,102 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CountingBloomFilterBasicTest {
+
+    private static final int CAPACITY = 1000;
+
+    // ------------------------- add and remove tests --------------------
+
+    @Test
+    public void testMightContainAdded() {
+        CountingBloomFilter filter = new CountingBloomFilter(CAPACITY);
+        assertFalse("Element found in empty filter.", filter.mightContain("Title"));
+
+        filter.add("Title");
+        assertTrue("Added element not found.", filter.mightContain("Title"));
+    }
+
+    @Test
+    public void testRemoveAfterAdd() {
+        CountingBloomFilter filter = new CountingBloomFilter(CAPACITY);
+        filter.add("Title");
+        filter.add("Title");
+
+        filter.remove("Title");
+        assertTrue("Element added twice not found after one removal.", filter.mightContain("Title"));
+        filter.remove("Title");
+        assertFalse("Removed element found.", filter.mightContain("Title"));
+    }
+
+    @Test
+    public void testNoFalseNegatives() {
+        CountingBloomFilter filter = new CountingBloomFilter(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.add("Title " + i);
+        }
+        for (int i = 0; i < CAPACITY; i += 2) {
+            filter.remove("Title " + i);
+        }
+
+        for (int i = 1; i < CAPACITY; i += 2) {
+            assertTrue("Remaining element Title " + i + " not found.", filter.mightContain("Title " + i));
+        }
+    }
+
+    @Test
+    public void testFewFalsePositives() {
+        CountingBloomFilter filter = new CountingBloomFilter(CAPACITY);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.add("Title " + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = CAPACITY; i < 11 * CAPACITY; i++) {
+            if (filter.mightContain("Title " + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue("Too many false positives: " + falsePositives, falsePositives < CAPACITY / 2);
+    }
+
+    @Test
+    public void testSaturatedCounterNotDecreased() {
+        CountingBloomFilter filter = new CountingBloomFilter(CAPACITY);
+        int additions = 2 * Byte.MAX_VALUE;
+        for (int i = 0; i < additions; i++) {
+            filter.add("Title");
+        }
+
+        for (int i = 0; i < additions - 1; i++) {
+            filter.remove("Title");
+        }
+        assertTrue("Element lost after saturated counters were decreased.", filter.mightContain("Title"));
+    }
+
+    // ------------------------- capacity tests --------------------
+
+    @Test
+    public void testIsFull() {
+        CountingBloomFilter filter = new CountingBloomFilter(2);
+        filter.add("A");
+        filter.add("B");
+        assertFalse("Filter full at capacity.", filter.isFull());
+
+        filter.add("C");
+        assertTrue("Filter not full over capacity.", filter.isFull());
+        filter.remove("C");
+        assertFalse("Filter still full after removal.", filter.isFull());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityNotPositive() {
+        new CountingBloomFilter(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        new CountingBloomFilter(CAPACITY).add(null);
+    }
+}
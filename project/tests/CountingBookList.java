@@ -0,0 +1,30 @@
+import java.util.ArrayList;
+
+/**
+ * List of books counting how often books are read by position,
+ * to check that commands only visit the books they need.
+ */
+public class CountingBookList extends ArrayList<BookEntry> {
+
+    private int reads;
+
+    public CountingBookList(int size) {
+        for (int i = 0; i < size; i++) {
+            add(new BookEntry("Title " + i, new String[] { "Author " + i }, 3.0f, "ISBN" + i, 100 + i));
+        }
+    }
+
+    @Override
+    public BookEntry get(int index) {
+        reads++;
+        return super.get(index);
+    }
+
+    public int getReads() {
+        return reads;
+    }
+
+    public void resetReads() {
+        reads = 0;
+    }
+}
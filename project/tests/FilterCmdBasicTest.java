@@ -0,0 +1,80 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class FilterCmdBasicTest extends FilterCmdTest {
+
+    // ------------------------- parseArguments tests --------------------
+
+    @Test
+    public void testParseArgumentsIllegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, false, BLANK_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING >");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING ~ 3");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING => 3");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "TITLE > 3");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "rating > 3");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING > three");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING > NaN");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "PAGES < Infinity");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "RATING > 3 PAGES");
+    }
+
+    @Test
+    public void testParseArgumentsLegalArgument() {
+        for (String operator : new String[] { "<", "<=", "=", ">=", ">" }) {
+            CommandTestUtils.checkArgumentInput(testCommand, true, "RATING " + operator + " 3.5");
+            CommandTestUtils.checkArgumentInput(testCommand, true, "PAGES " + operator + " 300");
+        }
+        CommandTestUtils.checkArgumentInput(testCommand, true, "RATING >= 4.3 PAGES < 300");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "  PAGES   >   -1  ");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "RATING > 1 RATING < 4");
+    }
+
+    // ------------------------- execute tests --------------------
+
+    @Test
+    public void testExecuteInclusiveBounds() {
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, TITLE_B + "\n" + TITLE_D);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("PAGES <= 300"), testLibrary,
+                TITLE_C + "\n" + TITLE_D + "\n" + TITLE_E);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("PAGES = 300"), testLibrary, TITLE_C + "\n" + TITLE_D);
+    }
+
+    @Test
+    public void testExecuteExclusiveBounds() {
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING > 4.3"), testLibrary, TITLE_D);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("PAGES < 300"), testLibrary, TITLE_E);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING > 4.8"), testLibrary,
+                NOTHING_FOUND_MESSAGE + "RATING > 4.8");
+    }
+
+    @Test
+    public void testExecuteSeveralFields() {
+        // the narrow page range is taken from its index and checked against the wide rating range
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING > 1 PAGES = 300"), testLibrary,
+                TITLE_C + "\n" + TITLE_D);
+        // the narrow rating range is taken from its index and checked against the wide page range
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("PAGES >= 120 RATING >= 4.8"), testLibrary, TITLE_D);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING >= 4.3 PAGES < 300"), testLibrary,
+                NOTHING_FOUND_MESSAGE + "RATING >= 4.3 PAGES < 300");
+    }
+
+    @Test
+    public void testExecuteSameFieldNarrowsRange() {
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING > 1 RATING < 3.2"), testLibrary,
+                TITLE_C + "\n" + TITLE_E);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("RATING <= 3.2 RATING >= 3.2"), testLibrary, TITLE_A);
+    }
+
+    @Test
+    public void testExecuteSkipsRemovedBooks() {
+        testCommand.execute(testLibrary);
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd(TITLE_ARGUMENT + " " + TITLE_B), testLibrary);
+        assertEquals("Removed book compacted too early.", 5, testLibrary.getStoredBooks().size());
+
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, TITLE_D);
+        CommandTestUtils.checkExecuteConsoleOutput(new FilterCmd("PAGES >= 400"), testLibrary, TITLE_A);
+    }
+}
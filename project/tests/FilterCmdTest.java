@@ -0,0 +1,34 @@
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class FilterCmdTest extends CommandTest {
+
+    protected static final String TITLE_A = "TitleA";
+    protected static final String TITLE_B = "TitleB";
+    protected static final String TITLE_C = "TitleC";
+    protected static final String TITLE_D = "TitleD";
+    protected static final String TITLE_E = "TitleE";
+
+    protected static final String NOTHING_FOUND_MESSAGE = "No books found for filter: ";
+
+    @Override
+    protected CommandType getCmdType() {
+        return CommandType.FILTER;
+    }
+
+    @Before
+    public void setup() {
+        testCommand = new FilterCmd("RATING >= 4.3");
+
+        testLibrary = new LibraryData();
+        List<BookEntry> bookData = new ArrayList<>();
+        bookData.add(new BookEntry(TITLE_A, new String[]{"AuthorA"}, 3.2f, "ISBNA", 500));
+        bookData.add(new BookEntry(TITLE_B, new String[]{"AuthorB"}, 4.3f, "ISBNB", 400));
+        bookData.add(new BookEntry(TITLE_C, new String[]{"AuthorC"}, 1.3f, "ISBNC", 300));
+        bookData.add(new BookEntry(TITLE_D, new String[]{"AuthorD"}, 4.8f, "ISBND", 300));
+        bookData.add(new BookEntry(TITLE_E, new String[]{"AuthorE"}, 2.5f, "ISBNE", 120));
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", bookData);
+    }
+}
@@ -0,0 +1,57 @@
+import org.junit.Test;
+
+public class GetCmdBasicTest extends GetCmdTest {
+
+    // ------------------------- parseArguments tests --------------------
+
+    @Test
+    public void testParseArgumentsIllegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, false, BLANK_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, false, "0060955422");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "ISBN");
+        CommandTestUtils.checkArgumentInput(testCommand, false, ISBN_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, false, ISBN_ARGUMENT + "  ");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "isbn 0060955422");
+    }
+
+    @Test
+    public void testParseArgumentsLegalArgument() {
+        CommandTestUtils.checkArgumentInput(testCommand, true, ISBN_ARGUMENT + "0060955422");
+        CommandTestUtils.checkArgumentInput(testCommand, true, ISBN_ARGUMENT + "978-0-06-095542-7");
+        CommandTestUtils.checkArgumentInput(testCommand, true, ISBN_ARGUMENT + "ISBNC");
+    }
+
+    // ------------------------- execute tests --------------------
+
+    @Test
+    public void testExecuteIsbn10() {
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, BOOK_A.toString());
+        CommandTestUtils.checkExecuteConsoleOutput(new GetCmd(ISBN_ARGUMENT + "60955422"), testLibrary,
+                BOOK_A.toString());
+    }
+
+    @Test
+    public void testExecuteIsbn13() {
+        CommandTestUtils.checkExecuteConsoleOutput(new GetCmd(ISBN_ARGUMENT + "978-0-06-095542-7"), testLibrary,
+                BOOK_A.toString());
+        CommandTestUtils.checkExecuteConsoleOutput(new GetCmd(ISBN_ARGUMENT + "9780804429573"), testLibrary,
+                BOOK_B.toString());
+    }
+
+    @Test
+    public void testExecuteOtherValue() {
+        CommandTestUtils.checkExecuteConsoleOutput(new GetCmd(ISBN_ARGUMENT + "ISBNC"), testLibrary, BOOK_C.toString());
+    }
+
+    @Test
+    public void testExecuteNotFound() {
+        CommandTestUtils.checkExecuteConsoleOutput(new GetCmd(ISBN_ARGUMENT + "0060955430"), testLibrary,
+                NOT_FOUND_MESSAGE + "0060955430");
+    }
+
+    @Test
+    public void testExecuteRemovedBook() {
+        CommandTestUtils.captureExecuteStdOutputLines(new RemoveCmd(TITLE_ARGUMENT + " TitleA"), testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, NOT_FOUND_MESSAGE + "0060955422");
+    }
+}
@@ -0,0 +1,31 @@
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public abstract class GetCmdTest extends CommandTest {
+
+    protected static final String ISBN_ARGUMENT = "ISBN ";
+    protected static final String NOT_FOUND_MESSAGE = "No book found for ISBN: ";
+
+    protected static final BookEntry BOOK_A = new BookEntry("TitleA", new String[] { "AuthorA" }, 3.2f, "0060955422", 500);
+    protected static final BookEntry BOOK_B = new BookEntry("TitleB", new String[] { "AuthorB" }, 4.3f, "080442957X", 400);
+    protected static final BookEntry BOOK_C = new BookEntry("TitleC", new String[] { "AuthorC" }, 1.3f, "ISBNC", 300);
+
+    @Override
+    protected CommandType getCmdType() {
+        return CommandType.GET;
+    }
+
+    @Before
+    public void setup() {
+        testCommand = new GetCmd(ISBN_ARGUMENT + "0060955422");
+
+        testLibrary = new LibraryData();
+        List<BookEntry> bookData = new ArrayList<>();
+        bookData.add(BOOK_A);
+        bookData.add(BOOK_B);
+        bookData.add(BOOK_C);
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", bookData);
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 
 public class GroupCmdBasicTest extends GroupCmdTest {
 
@@ -14,6 +16,15 @@ public class GroupCmdBasicTest extends GroupCmdTest {
         assertEquals("Unexpected group output header.", expectedHeader, executeStdOutLines[0]);
     }
 
+    private static void checkUnmodifiable(List<BookEntry> books) {
+        try {
+            books.remove(0);
+            fail("Book data can be modified.");
+        } catch (UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
     // ------------------------- parseArguments tests --------------------
 
     @Test
@@ -21,6 +32,7 @@ public class GroupCmdBasicTest extends GroupCmdTest {
         String blankArg = "";
         CommandTestUtils.checkArgumentInput(testCommand, false, blankArg);
         CommandTestUtils.checkArgumentInput(testCommand, false, "nonsense");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "ISBN");
     }
 
     @Test
@@ -77,4 +89,46 @@ public class GroupCmdBasicTest extends GroupCmdTest {
         List<String> expectedGroups = List.of("A Author", "B Author", "C Author", "D Author", "E Author", "F Author");
         checkGroupOutputOrder(executeStdOutLines, expectedGroups);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testExecuteSkipsRemovedBooksBeforeCompaction() {
+        testLibrary.removeTitle("C Title");
+        testLibrary.removeTitle("A Title 2");
+        assertEquals("Removed books compacted too early.", 9, testLibrary.getStoredBooks().size());
+
+        String[] executeStdOutLines = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        checkGroupOutputOrder(executeStdOutLines, List.of("A", "B", "D", "E", "F"));
+        assertEquals("Unexpected amount of output lines for group output.", 13, executeStdOutLines.length);
+
+        testCommand = new GroupCmd(AUTHOR_ARGUMENT);
+        executeStdOutLines = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        checkGroupOutputOrder(executeStdOutLines, List.of("A Author", "B Author", "D Author", "E Author", "F Author"));
+        assertEquals("Unexpected amount of output lines for group output.", 13, executeStdOutLines.length);
+    }
+
+    @Test
+    public void testExecuteGroupAuthorChargedToAuthorIndex() {
+        testCommand = new GroupCmd(AUTHOR_ARGUMENT);
+        String[] scannedLines = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        IndexStats stats = testLibrary.getIndexStats().get(IndexType.AUTHOR);
+        assertEquals("Grouping not charged to the author index.", 1, stats.getQueries());
+        assertEquals("Scanned books not charged.", 9, stats.getScannedBooks());
+        assertFalse("Author index built for a single grouping.", stats.isBuilt());
+
+        testLibrary.createIndex(IndexType.AUTHOR);
+        testLibrary.removeTitle("C Title");
+        String[] indexedLines = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        assertEquals("Author index not used.", 2, stats.getQueries());
+        checkGroupOutputOrder(indexedLines, List.of("A Author", "B Author", "D Author", "E Author", "F Author"));
+        assertEquals("Unexpected amount of output lines for group output.", scannedLines.length - 2, indexedLines.length);
+    }
+
+    @Test
+    public void testBookDataUnmodifiableBeforeAndAfterRemoval() {
+        checkUnmodifiable(testLibrary.getBookData());
+        testLibrary.removeTitle("C Title");
+        assertEquals("Removed book compacted too early.", 9, testLibrary.getStoredBooks().size());
+        assertEquals("Removed book returned.", 8, testLibrary.getBookData().size());
+        checkUnmodifiable(testLibrary.getBookData());
+    }
+}
@@ -0,0 +1,76 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IsbnIndexBasicTest {
+
+    private static final String ISBN_13 = "9780060955427";
+
+    // ------------------------- normalize tests --------------------
+
+    @Test
+    public void testNormalizeIsbn10() {
+        assertEquals("ISBN-10 not converted.", ISBN_13, IsbnIndex.normalize("0060955422"));
+        assertEquals("Check digit not recomputed.", "9780804429573", IsbnIndex.normalize("080442957X"));
+        assertEquals("Lower case check digit not accepted.", "9780804429573", IsbnIndex.normalize("080442957x"));
+    }
+
+    @Test
+    public void testNormalizeRestoresLeadingZeros() {
+        assertEquals("Leading zero not restored.", ISBN_13, IsbnIndex.normalize("60955422"));
+        assertEquals("Leading zeros not restored.", "9780000000002", IsbnIndex.normalize("0"));
+    }
+
+    @Test
+    public void testNormalizeIgnoresSeparators() {
+        assertEquals("Separators of ISBN-13 not removed.", ISBN_13, IsbnIndex.normalize("978-0-06-095542-7"));
+        assertEquals("Separators of ISBN-10 not removed.", ISBN_13, IsbnIndex.normalize("0-06-095542-2"));
+        assertEquals("Spaces not removed.", ISBN_13, IsbnIndex.normalize("978 0 06 095542 7"));
+        assertEquals("ISBN-13 changed.", ISBN_13, IsbnIndex.normalize(ISBN_13));
+    }
+
+    @Test
+    public void testNormalizeOtherValues() {
+        assertEquals("Other value changed.", "ISBNA", IsbnIndex.normalize("ISBNA"));
+        assertEquals("X inside an ISBN-10 accepted.", "00609X5422", IsbnIndex.normalize("00609X5422"));
+        assertEquals("Empty value changed.", "", IsbnIndex.normalize("-"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNormalizeNull() {
+        IsbnIndex.normalize(null);
+    }
+
+    // ------------------------- find tests --------------------
+
+    @Test
+    public void testFindEitherForm() {
+        BookEntry book = new BookEntry("Title", new String[] { "Author" }, 3.2f, "60955422", 500);
+        IsbnIndex index = new IsbnIndex();
+        index.add(book);
+
+        for (String isbn : new String[] { "0060955422", "60955422", "978-0-06-095542-7", ISBN_13 }) {
+            assertEquals("Book not found for " + isbn + ".", List.of(book), index.find(isbn));
+        }
+        assertTrue("Book found for another ISBN.", index.find("0060955423X").isEmpty());
+    }
+
+    @Test
+    public void testFindAfterRemove() {
+        BookEntry first = new BookEntry("First", new String[] { "Author" }, 3.2f, "0060955422", 500);
+        BookEntry second = new BookEntry("Second", new String[] { "Author" }, 4.3f, ISBN_13, 400);
+        List<BookEntry> books = new ArrayList<>(List.of(first, second));
+        IsbnIndex index = new IsbnIndex();
+        books.forEach(index::add);
+
+        assertEquals("Books of the same ISBN not found in order.", books, index.find(ISBN_13));
+        index.remove(first);
+        assertEquals("Removed book found.", List.of(second), index.find("0060955422"));
+        index.remove(second);
+        assertTrue("Removed books found.", index.find(ISBN_13).isEmpty());
+    }
+}
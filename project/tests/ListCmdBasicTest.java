@@ -1,5 +1,9 @@
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
 public class ListCmdBasicTest extends ListCmdTest {
 
     // ------------------------- parseArguments tests --------------------
@@ -7,6 +11,7 @@ public class ListCmdBasicTest extends ListCmdTest {
     @Test
     public void testParseArgumentsIllegalArgument() {
         CommandTestUtils.checkArgumentInput(testCommand, false, "nonsense");
+        CommandTestUtils.checkArgumentInput(testCommand, false, SHORT_ARGUMENT + " LIMIT 0");
     }
 
     @Test
@@ -14,6 +19,7 @@ public class ListCmdBasicTest extends ListCmdTest {
         CommandTestUtils.checkArgumentInput(testCommand, true, SHORT_ARGUMENT);
         CommandTestUtils.checkArgumentInput(testCommand, true, LONG_ARGUMENT);
         CommandTestUtils.checkArgumentInput(testCommand, true, BLANK_ARGUMENT);
+        CommandTestUtils.checkArgumentInput(testCommand, true, LONG_ARGUMENT + " LIMIT 2");
     }
 
     // ------------------------- execute tests --------------------
@@ -48,4 +54,52 @@ public class ListCmdBasicTest extends ListCmdTest {
 
         CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
     }
+
+    @Test
+    public void testExecutePaginatedList() {
+        testCommand = new ListCmd("LIMIT 2");
+        String[] firstPage = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        assertArrayEquals(new String[] { "3 books in library:", "TitleA", "TitleB", "Next page: NEXT c1" }, firstPage);
+
+        testCommand = new NextCmd("c1");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "TitleC");
+    }
+
+    @Test
+    public void testExecutePaginatedListVisitsOnlyPage() {
+        CountingBookList books = new CountingBookList(100);
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", books);
+
+        String[] firstPage = CommandTestUtils.captureExecuteStdOutputLines(new ListCmd("LIMIT 2"), testLibrary);
+        assertArrayEquals(new String[] { "100 books in library:", "Title 0", "Title 1", "Next page: NEXT c1" }, firstPage);
+        assertEquals("Books after the page visited.", 2, books.getReads());
+
+        testLibrary.removeTitle("Title 2");
+        books.resetReads();
+        String[] secondPage = CommandTestUtils.captureExecuteStdOutputLines(new NextCmd("c1"), testLibrary);
+        assertArrayEquals("Removed book not skipped.", new String[] { "Title 3", "Title 4", "Next page: NEXT c1" }, secondPage);
+        assertEquals("Books after the page visited.", 2, books.getReads());
+    }
+
+    @Test
+    public void testExecuteIsolatesTransactionUntilCommit() {
+        testLibrary.begin();
+        testLibrary.removeTitle("TitleB");
+        assertFalse("Book removed twice in a transaction.", testLibrary.removeTitle("TitleB"));
+
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                "3 books in library:\nTitleA\nTitleB\nTitleC");
+        assertEquals("Staged removal visible before commit.", 3, testLibrary.getBookData().size());
+        assertFalse("Staged removal marked before commit.", testLibrary.isRemoved(1));
+
+        testLibrary.commit();
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "2 books in library:\nTitleA\nTitleC");
+
+        testLibrary.undo();
+        testLibrary.begin();
+        testLibrary.removeTitle("TitleB");
+        testLibrary.rollback();
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                "3 books in library:\nTitleA\nTitleB\nTitleC");
+    }
 }
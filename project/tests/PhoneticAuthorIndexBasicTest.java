@@ -0,0 +1,43 @@
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PhoneticAuthorIndexBasicTest {
+
+    private static final List<BookEntry> BOOKS = List.of(
+            new BookEntry("War and Peace", new String[] { "Leo Tolstoy" }, 4.1f, "ISBNA", 1225),
+            new BookEntry("Anna Karenina", new String[] { "Leo Tolstoy" }, 4.0f, "ISBNB", 864),
+            new BookEntry("Crime and Punishment", new String[] { "Fyodor Dostoevsky" }, 4.2f, "ISBNC", 671));
+
+    // ------------------------- find tests --------------------
+
+    @Test
+    public void testFindSounding() {
+        PhoneticAuthorIndex index = PhoneticAuthorIndex.build(BOOKS);
+        assertArrayEquals("Similar name not found.", new int[] { 0, 1 }, index.findSounding("tolstoi"));
+        assertArrayEquals("Other name found.", new int[0], index.findSounding("Tolkien"));
+    }
+
+    // ------------------------- memory tests --------------------
+
+    @Test
+    public void testMemoryIncludesMemoOfCodes() {
+        PhoneticAuthorIndex index = PhoneticAuthorIndex.build(BOOKS);
+        long withMemo = index.memoryBytes();
+
+        assertTrue("Index not remapped.", index.compacted(new int[0]));
+        assertTrue("Memo of codes not counted or not cleared by compaction.", index.memoryBytes() < withMemo);
+
+        assertTrue("Index not remapped.", index.compacted(new int[] { 2 }));
+        assertArrayEquals("Ids not remapped.", new int[] { 0, 1 }, index.findSounding("tolstoi"));
+        assertArrayEquals("Dropped book found.", new int[0], index.findSounding("Dostoevsky"));
+
+        index.add(2, BOOKS.get(0));
+        assertArrayEquals("Book added after compaction not found.", new int[] { 0, 1, 2 }, index.findSounding("tolstoi"));
+        assertEquals("Unexpected number of codes.", 2, index.termCount());
+    }
+}
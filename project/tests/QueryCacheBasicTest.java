@@ -0,0 +1,77 @@
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+
+public class QueryCacheBasicTest {
+
+    // ------------------------- getOrRender tests --------------------
+
+    @Test
+    public void testGetOrRenderHit() {
+        QueryCache cache = new QueryCache();
+        AtomicInteger renders = new AtomicInteger();
+        Supplier<String> renderer = () -> "result " + renders.incrementAndGet();
+
+        assertEquals("Rendered result not returned.", "result 1", cache.getOrRender("SEARCH a", 0, renderer));
+        assertEquals("Cached result not returned.", "result 1", cache.getOrRender("SEARCH a", 0, renderer));
+        assertEquals("Other key answered from the cache.", "result 2", cache.getOrRender("SEARCH b", 0, renderer));
+        checkCounts(cache, 2, 1, 2);
+    }
+
+    @Test
+    public void testGetOrRenderNewVersion() {
+        QueryCache cache = new QueryCache();
+        cache.getOrRender("SEARCH a", 0, () -> "old a");
+        cache.getOrRender("SEARCH b", 0, () -> "old b");
+
+        assertEquals("Result of old version returned.", "new a", cache.getOrRender("SEARCH a", 1, () -> "new a"));
+        checkCounts(cache, 1, 0, 3);
+        assertEquals("Result of new version not cached.", "new a", cache.getOrRender("SEARCH a", 1, () -> "newer a"));
+    }
+
+    @Test
+    public void testGetOrRenderEvictsLeastRecentlyUsed() {
+        QueryCache cache = new QueryCache(2);
+        cache.getOrRender("a", 0, () -> "a");
+        cache.getOrRender("b", 0, () -> "b");
+        cache.getOrRender("a", 0, () -> "other a");
+        cache.getOrRender("c", 0, () -> "c");
+
+        assertEquals("Capacity exceeded.", 2, cache.size());
+        assertEquals("Recently used result evicted.", "a", cache.getOrRender("a", 0, () -> "other a"));
+        assertEquals("Least recently used result kept.", "other b", cache.getOrRender("b", 0, () -> "other b"));
+        assertEquals("Result kept after later eviction.", "other c", cache.getOrRender("c", 0, () -> "other c"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testGetOrRenderNullResult() {
+        new QueryCache().getOrRender("a", 0, () -> null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityNotPositive() {
+        new QueryCache(0);
+    }
+
+    @Test
+    public void testClearKeepsCounts() {
+        QueryCache cache = new QueryCache();
+        cache.getOrRender("a", 0, () -> "a");
+        cache.getOrRender("a", 0, () -> "a");
+        cache.clear();
+
+        checkCounts(cache, 0, 1, 1);
+        assertEquals("Result kept after clear.", "other a", cache.getOrRender("a", 0, () -> "other a"));
+    }
+
+    // ------------------------- test helpers ----------------------------
+
+    private static void checkCounts(QueryCache cache, int size, long hits, long misses) {
+        assertEquals("Unexpected number of cached results.", size, cache.size());
+        assertEquals("Unexpected number of hits.", hits, cache.getHits());
+        assertEquals("Unexpected number of misses.", misses, cache.getMisses());
+    }
+}
@@ -1,9 +1,17 @@
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class RemoveCmdBasicTest extends RemoveCmdTest {
 
     @Before
@@ -27,12 +35,15 @@ public class RemoveCmdBasicTest extends RemoveCmdTest {
         CommandTestUtils.checkArgumentInput(testCommand, false, TITLE_ARGUMENT + " " + blankArg);
         CommandTestUtils.checkArgumentInput(testCommand, false, AUTHOR_ARGUMENT + " " + blankArg);
         CommandTestUtils.checkArgumentInput(testCommand, false, "nonsense");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "FILE " + blankArg);
+        CommandTestUtils.checkArgumentInput(testCommand, false, "WHERE " + blankArg);
+        CommandTestUtils.checkArgumentInput(testCommand, false, "WHERE RATING ~ 2");
     }
 
     @Test
     public void testParseArgumentsLegalArgument() {
         String[] valueArgs = new String[] { TITLE_VALUE_ARGUMENT, AUTHOR_VALUE_ARGUMENT, GENERIC_VALUE_ARGUMENT };
-        String[] typeArgs = new String[] { TITLE_ARGUMENT, AUTHOR_ARGUMENT };
+        String[] typeArgs = new String[] { TITLE_ARGUMENT, AUTHOR_ARGUMENT, "ISBN" };
 
         for (String typeArg : typeArgs) {
             for (String valueArg : valueArgs) {
@@ -73,4 +84,199 @@ public class RemoveCmdBasicTest extends RemoveCmdTest {
     public void testExecuteNotFound() {
         checkEntryNotFound();
     }
+
+    @Test
+    public void testExecuteRemoveFile() throws IOException {
+        Path valuesFile = Files.createTempFile("remove", ".txt");
+        try {
+            Files.write(valuesFile, List.of("TitleA", "", "AuthorC", "isbnb", "unknown"));
+            testCommand = new RemoveCmd("FILE " + valuesFile);
+
+            String expectedConsoleOutput = "3 books removed for 4 values from file: " + valuesFile;
+            CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+            assertEquals("Books not removed as expected.", 0, testLibrary.getBookData().size());
+        } finally {
+            Files.delete(valuesFile);
+        }
+    }
+
+    @Test
+    public void testExecuteRemoveAfterRestore() {
+        testCommand.execute(testLibrary);
+        testLibrary.undo();
+
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                String.format(TITLE_REMOVE_MESSAGE, TITLE_VALUE_ARGUMENT));
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                String.format(TITLE_NOT_FOUND_MESSAGE, TITLE_VALUE_ARGUMENT));
+    }
+
+    @Test
+    public void testExecuteRemoveAfterFiltersRebuilt() throws IOException {
+        checkEntryNotFound();
+
+        Path booksFile = Files.createTempFile("books", ".csv");
+        try {
+            List<String> lines = new ArrayList<>();
+            lines.add("title,authors,average_rating,isbn,# num_pages");
+            for (int i = 0; i < 200; i++) {
+                lines.add("Title" + i + ",Author" + i + ",3.5,ISBN" + i + ",100");
+            }
+            Files.write(booksFile, lines);
+            testLibrary.loadData(booksFile);
+
+            for (int i = 0; i < 200; i += 10) {
+                String title = "Title" + i;
+                CommandTestUtils.checkExecuteConsoleOutput(new RemoveCmd(TITLE_ARGUMENT + " " + title), testLibrary,
+                        String.format(TITLE_REMOVE_MESSAGE, title));
+                String author = "Author" + (i + 1);
+                CommandTestUtils.checkExecuteConsoleOutput(new RemoveCmd(AUTHOR_ARGUMENT + " " + author), testLibrary,
+                        String.format(AUTHOR_REMOVE_MESSAGE, 1, author));
+            }
+        } finally {
+            Files.delete(booksFile);
+        }
+    }
+
+    @Test
+    public void testExecuteLoadAndRemoveStagedInTransaction() throws IOException {
+        List<BookEntry> expected = new ArrayList<>(testLibrary.getBookData());
+        Path booksFile = Files.createTempFile("books", ".csv");
+        try {
+            Files.write(booksFile, List.of("title,authors,average_rating,isbn,# num_pages",
+                    "TitleD,AuthorD,3.5,ISBND,100", "TitleD,AuthorD,3.5,ISBND,100"));
+
+            testLibrary.begin();
+            testLibrary.loadData(booksFile);
+            testLibrary.loadData(booksFile);
+            testCommand.execute(testLibrary);
+            assertEquals("Staged changes visible before commit.", expected, testLibrary.getBookData());
+            CommandTestUtils.checkExecuteConsoleOutput(new RemoveCmd(TITLE_ARGUMENT + " TitleD"), testLibrary,
+                    String.format(TITLE_NOT_FOUND_MESSAGE, "TitleD"));
+
+            testLibrary.commit();
+            assertEquals("Staged changes not applied by commit.", 3, testLibrary.getBookData().size());
+            assertEquals("Staged book not added once.", 1, testLibrary.getTitleIndex().findTitle("TitleD").length);
+
+            testLibrary.undo();
+            assertEquals("Committed transaction not undone as a whole.", expected, testLibrary.getBookData());
+        } finally {
+            Files.delete(booksFile);
+        }
+    }
+
+    @Test
+    public void testExecuteRemoveTitleChargesScannedBooks() {
+        testLibrary.removeTitle("TitleA");
+        IndexStats stats = testLibrary.getIndexStats().get(IndexType.TITLE);
+        assertEquals("Scan up to the first match not charged as such.", 1, stats.getScannedBooks());
+
+        testLibrary.removeTitle("Missing Title");
+        assertEquals("Scan without a match not charged fully.", 3, stats.getScannedBooks());
+    }
+
+    @Test
+    public void testExecuteRemoveAuthorAfterCompaction() {
+        assertTrue("Index not created.", testLibrary.createIndex(IndexType.AUTHOR));
+        testLibrary.removeTitle("TitleA");
+        assertEquals("Removed book not compacted.", 2, testLibrary.getStoredBooks().size());
+
+        IndexStats stats = testLibrary.getIndexStats().get(IndexType.AUTHOR);
+        assertTrue("Author index dropped by compaction.", stats.isBuilt());
+        assertEquals("Author index rebuilt instead of remapped.", 1, stats.getBuilds());
+        assertArrayEquals("Ids of author index not remapped.", new int[] { 1 },
+                testLibrary.getAuthorIndex().findAuthor("AuthorC"));
+
+        testCommand = new RemoveCmd(AUTHOR_ARGUMENT + " AuthorC");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, String.format(AUTHOR_REMOVE_MESSAGE, 1, "AuthorC"));
+        assertEquals("Books not removed as expected.", 1, testLibrary.getBookData().size());
+        assertEquals("Books not removed as expected.", TITLE_VALUE_ARGUMENT, testLibrary.getBookData().get(0).getTitle());
+    }
+
+    @Test
+    public void testExecuteRemoveWhere() {
+        testCommand = new RemoveCmd("WHERE RATING < 4 PAGES >= 300");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                "2 books removed where: RATING < 4 PAGES >= 300");
+        assertEquals("Books not removed as expected.", 1, testLibrary.getBookData().size());
+        assertEquals("Books not removed as expected.", TITLE_VALUE_ARGUMENT, testLibrary.getBookData().get(0).getTitle());
+    }
+
+    @Test
+    public void testExecuteRemoveUndoRedo() {
+        List<BookEntry> expected = new ArrayList<>(testLibrary.getBookData());
+        testCommand.execute(testLibrary);
+
+        CommandTestUtils.checkExecuteConsoleOutput(new UndoCmd(""), testLibrary, "Last change undone.");
+        assertEquals("Removed book not restored at its position.", expected, testLibrary.getBookData());
+
+        CommandTestUtils.checkExecuteConsoleOutput(new RedoCmd(""), testLibrary, "Last undone change redone.");
+        expected.remove(1);
+        assertEquals("Book not removed again.", expected, testLibrary.getBookData());
+        CommandTestUtils.checkExecuteConsoleOutput(new RedoCmd(""), testLibrary, "Nothing to redo.");
+    }
+
+    @Test
+    public void testExecuteRemoveInTransaction() {
+        List<BookEntry> expected = new ArrayList<>(testLibrary.getBookData());
+
+        CommandTestUtils.checkExecuteConsoleOutput(new TransactionCmd(CommandType.BEGIN, ""), testLibrary,
+                "Transaction started.");
+        testCommand.execute(testLibrary);
+        new RemoveCmd(AUTHOR_ARGUMENT + " AuthorC").execute(testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(new TransactionCmd(CommandType.ROLLBACK, ""), testLibrary,
+                "Transaction rolled back.");
+        assertEquals("Removed books not restored by rollback.", expected, testLibrary.getBookData());
+
+        new TransactionCmd(CommandType.BEGIN, "").execute(testLibrary);
+        testCommand.execute(testLibrary);
+        new RemoveCmd(AUTHOR_ARGUMENT + " AuthorC").execute(testLibrary);
+        CommandTestUtils.checkExecuteConsoleOutput(new TransactionCmd(CommandType.COMMIT, ""), testLibrary,
+                "Transaction committed.");
+        assertEquals("Books not removed by commit.", 1, testLibrary.getBookData().size());
+
+        new UndoCmd("").execute(testLibrary);
+        assertEquals("Committed transaction not undone as a whole.", expected, testLibrary.getBookData());
+    }
+
+    @Test
+    public void testExecuteRemoveIsbn() {
+        testCommand = new RemoveCmd("ISBN isbnb");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "isbnb: removed successfully.");
+        assertEquals("Book not removed as expected.", 2, testLibrary.getBookData().size());
+
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "isbnb: not found.");
+    }
+
+    @Test
+    public void testExecuteRemoveWithCreatedIndex() {
+        CommandTestUtils.checkExecuteConsoleOutput(new IndexCmd("CREATE ISBN"), testLibrary, "Index created: ISBN");
+        CommandTestUtils.checkExecuteConsoleOutput(new IndexCmd("CREATE ISBN"), testLibrary, "Index already exists: ISBN");
+
+        new RemoveCmd("ISBN ISBNB").execute(testLibrary);
+        assertEquals("Removed book still in index.", 0, testLibrary.getIsbnIndex().find("ISBNB").size());
+        new UndoCmd("").execute(testLibrary);
+        assertEquals("Restored book not in index.", 1, testLibrary.getIsbnIndex().find("ISBNB").size());
+        assertTrue("Index updates not counted.", testLibrary.getIndexStats().get(IndexType.ISBN).getUpdates() > 0);
+
+        CommandTestUtils.checkExecuteConsoleOutput(new IndexCmd("DROP ISBN"), testLibrary, "Index dropped: ISBN");
+        CommandTestUtils.checkExecuteConsoleOutput(new IndexCmd("DROP ISBN"), testLibrary, "Index not found: ISBN");
+        CommandTestUtils.checkExecuteConsoleOutput(new IndexCmd("LIST"), testLibrary,
+                "No indexes built.\nTITLE: not built, 1 queries, 3 books scanned");
+    }
+
+    @Test
+    public void testExecuteRemoveWhereBuildsIndexOfScannedField() {
+        testCommand = new RemoveCmd("WHERE PAGES > 1000");
+        for (int i = 0; i < 4; i++) {
+            CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, "0 books removed where: PAGES > 1000");
+        }
+        assertFalse("Index built before scans cost as much.", testLibrary.getIndexStats().get(IndexType.PAGES).isBuilt());
+
+        testCommand.execute(testLibrary);
+        assertTrue("Index of scanned field not built.", testLibrary.getIndexStats().get(IndexType.PAGES).isBuilt());
+
+        testLibrary.setIndexMemoryBudget(0);
+        assertFalse("Index beyond memory budget not dropped.", testLibrary.getIndexStats().get(IndexType.PAGES).isBuilt());
+    }
 }
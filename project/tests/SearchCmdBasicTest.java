@@ -1,5 +1,10 @@
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class SearchCmdBasicTest extends SearchCmdTest {
 
     // ------------------------- parseArguments tests --------------------
@@ -11,6 +16,14 @@ public class SearchCmdBasicTest extends SearchCmdTest {
 
         String argWithSpaces = "invalid search query";
         CommandTestUtils.checkArgumentInput(testCommand, false, argWithSpaces);
+
+        CommandTestUtils.checkArgumentInput(testCommand, false, "Castle AND");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "NOT Castle");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "\"Castle in");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "SOUNDS ...");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "FUZZY Hary 9");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "FUZZY Hary -1");
+        CommandTestUtils.checkArgumentInput(testCommand, false, "FUZZY ");
     }
 
     @Test
@@ -19,6 +32,18 @@ public class SearchCmdBasicTest extends SearchCmdTest {
 
         String argWithHyphen = "Hundred-Dollar";
         CommandTestUtils.checkArgumentInput(testCommand, true, argWithHyphen);
+
+        CommandTestUtils.checkArgumentInput(testCommand, true, "Castle AND NOT Sky OR Harry");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "\"Castle in\" NOT Edinburgh");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "FUZZY Hary 1");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "FUZZY AND potter");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "FUZZY OR Harry NOT Castle");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "AUTHOR AND potter");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "SOUNDS OR Harry");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "SOUNDS NOT 42");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "RANKED NOT Castle");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "REGEX OR Harry");
+        CommandTestUtils.checkArgumentInput(testCommand, true, "REGEX AND (");
     }
 
     // ------------------------- execute tests --------------------
@@ -43,4 +68,177 @@ public class SearchCmdBasicTest extends SearchCmdTest {
         testCommand = new SearchCmd(searchTerm);
         CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
     }
+
+    @Test
+    public void testExecuteBooleanQuery() {
+        testCommand = new SearchCmd("Castle NOT Sky");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+
+        testCommand = new SearchCmd("castle AND \"in the sky\"");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_A);
+
+        testCommand = new SearchCmd("Edinburgh OR Harry");
+        String expectedConsoleOutput = SINGLE_WORD_TITLE + "\n" + MULTI_WORD_TITLE_B;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+    }
+
+    @Test
+    public void testExecuteFuzzySearch() {
+        testCommand = new SearchCmd("FUZZY Castl 1");
+        String expectedConsoleOutput = MULTI_WORD_TITLE_A + "\n" + MULTI_WORD_TITLE_B;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+
+        testCommand = new SearchCmd("FUZZY Hary");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+    }
+
+    @Test
+    public void testExecuteBooleanSearchStartingWithFuzzy() {
+        testCommand = new SearchCmd("FUZZY OR Harry");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+
+        testCommand = new SearchCmd("FUZZY AND potter");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary,
+                "No hits found for search term: FUZZY AND potter");
+    }
+
+    @Test
+    public void testExecuteBooleanSearchStartingWithModeKeyword() {
+        testCommand = new SearchCmd("AUTHOR OR Harry");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+
+        testCommand = new SearchCmd("AUTHOR AND potter");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, NO_HITS_FOUND_MESSAGE + "AUTHOR AND potter");
+
+        testCommand = new SearchCmd("SOUNDS OR Harry");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+
+        testCommand = new SearchCmd("RANKED OR Edinburgh");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+
+        testCommand = new SearchCmd("REGEX OR Edinburgh");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+    }
+
+    @Test
+    public void testExecutePaginatedSearch() {
+        testCommand = new SearchCmd("Castle LIMIT 1");
+        String[] firstPage = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        assertArrayEquals(new String[] { MULTI_WORD_TITLE_A, "Next page: NEXT c1" }, firstPage);
+        CommandTestUtils.checkExecuteConsoleOutput(new NextCmd("c1"), testLibrary, MULTI_WORD_TITLE_B);
+
+        testCommand = new SearchCmd("Castle OR Harry TOP 2 BY RATING LIMIT 1");
+        firstPage = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        assertArrayEquals(new String[] { SINGLE_WORD_TITLE, "Next page: NEXT c2" }, firstPage);
+        CommandTestUtils.checkExecuteConsoleOutput(new NextCmd("c2"), testLibrary, MULTI_WORD_TITLE_A);
+
+        testCommand = new SearchCmd("Potter LIMIT 1");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, NO_HITS_FOUND_MESSAGE + "Potter LIMIT 1");
+    }
+
+    @Test
+    public void testExecutePaginatedSearchScansOnlyPage() {
+        CountingBookList books = new CountingBookList(100);
+        FieldTestUtils.setPrivateField(testLibrary, testLibrary.getClass(), "books", books);
+
+        testCommand = new SearchCmd("Title LIMIT 2");
+        String[] firstPage = CommandTestUtils.captureExecuteStdOutputLines(testCommand, testLibrary);
+        assertArrayEquals(new String[] { "Title 0", "Title 1", "Next page: NEXT c1" }, firstPage);
+        // two results and the first one of the next page are scanned, the results are read again to be shown
+        assertEquals("Books after the page scanned.", 5, books.getReads());
+
+        books.resetReads();
+        String[] secondPage = CommandTestUtils.captureExecuteStdOutputLines(new NextCmd("c1"), testLibrary);
+        assertArrayEquals(new String[] { "Title 2", "Title 3", "Next page: NEXT c1" }, secondPage);
+        assertEquals("Books after the page scanned.", 4, books.getReads());
+    }
+
+    @Test
+    public void testExecuteAuthorSearch() {
+        testCommand = new SearchCmd("AUTHOR authorb");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+
+        testCommand = new SearchCmd("AUTHOR Unknown Author");
+        String expectedConsoleOutput = NO_HITS_FOUND_MESSAGE + "AUTHOR Unknown Author";
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+    }
+
+    @Test
+    public void testExecuteSoundsSearch() {
+        testCommand = new SearchCmd("SOUNDS Awthurb");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, SINGLE_WORD_TITLE);
+
+        testCommand = new SearchCmd("SOUNDS Smith");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, NO_HITS_FOUND_MESSAGE + "SOUNDS Smith");
+    }
+
+    @Test
+    public void testExecuteRankedSearch() {
+        testCommand = new SearchCmd("RANKED castle sky");
+        String expectedConsoleOutput = MULTI_WORD_TITLE_A + "\n" + MULTI_WORD_TITLE_B;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+
+        testCommand = new SearchCmd("RANKED edinburgh castle");
+        expectedConsoleOutput = MULTI_WORD_TITLE_B + "\n" + MULTI_WORD_TITLE_A;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+    }
+
+    @Test
+    public void testExecuteTopSelection() {
+        testCommand = new SearchCmd("Castle OR Harry TOP 2 BY RATING");
+        String expectedConsoleOutput = SINGLE_WORD_TITLE + "\n" + MULTI_WORD_TITLE_A;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+
+        testCommand = new SearchCmd("Castle TOP 1 BY PAGES");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_A);
+    }
+
+    @Test
+    public void testExecuteRegexSearch() {
+        testCommand = new SearchCmd("REGEX ^Edin.*e$");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+
+        testCommand = new SearchCmd("REGEX Author[AB]");
+        String expectedConsoleOutput = MULTI_WORD_TITLE_A + "\n" + SINGLE_WORD_TITLE;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+    }
+
+    @Test
+    public void testExecuteRegexSearchWithoutBuildingIndexes() {
+        testCommand = new SearchCmd("REGEX Castle$");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+        testCommand = new SearchCmd("REGEX thor[AB]");
+        String expectedConsoleOutput = MULTI_WORD_TITLE_A + "\n" + SINGLE_WORD_TITLE;
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+        assertFalse("Title index built for a single query.", testLibrary.getIndexStats().get(IndexType.TITLE_WORDS).isBuilt());
+        assertFalse("Author index built for a single query.", testLibrary.getIndexStats().get(IndexType.AUTHOR).isBuilt());
+
+        testLibrary.createIndex(IndexType.TITLE_WORDS);
+        testLibrary.createIndex(IndexType.AUTHOR);
+        testCommand = new SearchCmd("REGEX [bB]urgh Castle$");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, MULTI_WORD_TITLE_B);
+        testCommand = new SearchCmd("REGEX uthor[AB]");
+        CommandTestUtils.checkExecuteConsoleOutput(testCommand, testLibrary, expectedConsoleOutput);
+    }
+
+    @Test
+    public void testExecuteSameResultsBeforeAndAfterIndexIsBuilt() {
+        testLibrary.getStoredBooks().add(new BookEntry("The Ca\u017Ftle", new String[]{"Ca\u017Ftle Writer"}, 2.0f, "ISBND", 100));
+        String[] titleQueries = { "castle", "Castle", "CASTLE", "cAstle", "caStle", "casTle" };
+        String[] authorQueries = { "AUTHOR castle", "AUTHOR Castle", "AUTHOR CASTLE", "AUTHOR cAstle",
+                "AUTHOR caStle", "AUTHOR casTle" };
+
+        for (String query : titleQueries) {
+            CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd(query), testLibrary,
+                    MULTI_WORD_TITLE_A + "\n" + MULTI_WORD_TITLE_B);
+        }
+        assertTrue("Index not built for repeated queries.",
+                testLibrary.getIndexStats().get(IndexType.TITLE_WORDS).isBuilt());
+
+        for (String query : authorQueries) {
+            CommandTestUtils.checkExecuteConsoleOutput(new SearchCmd(query), testLibrary, NO_HITS_FOUND_MESSAGE + query);
+        }
+        assertTrue("Index not built for repeated queries.",
+                testLibrary.getIndexStats().get(IndexType.AUTHOR).isBuilt());
+    }
 }
@@ -0,0 +1,46 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UtilsBasicTest {
+
+    private static final String[] HAYSTACKS = { "The Castle in the Sky", "CASTLE", "Ca\u017Ftle", "Har\u0131y Potter",
+            "\u0130stanbul Nights", "\u212Aing Lear", "A Tale of Two Cities and a Castle Again",
+            "The Chronicles of Narnia: The Lion, the Witch and the Wardrobe and Other Stories", "" };
+    private static final String[] NEEDLES = { "castle", "CaStLe", "hariy", "istanbul", "i\u0307stanbul",
+            "king", "tale of two cities", "castle again", "ca\u017Ftle", "\u0131", "THE WARDROBE AND", "wardrobe and others", "" };
+
+    // ------------------------- containsIgnoreCase tests --------------------
+
+    @Test
+    public void testContainsIgnoreCaseAscii() {
+        assertTrue("Substring not found ignoring case.", Utils.containsIgnoreCase("The Castle in the Sky", "cAsTlE"));
+        assertTrue("Long substring not found ignoring case.",
+                Utils.containsIgnoreCase("A Tale of Two Cities", "TALE OF TWO CITIES"));
+        assertFalse("Missing substring found.", Utils.containsIgnoreCase("The Castle in the Sky", "castles"));
+        assertTrue("Long substring not found ignoring case in a long title.", Utils.containsIgnoreCase(
+                "The Chronicles of Narnia: The Lion, the Witch and the Wardrobe and Other Stories", "lion, THE WITCH"));
+        assertTrue("Empty substring not found.", Utils.containsIgnoreCase("Castle", ""));
+    }
+
+    @Test
+    public void testContainsIgnoreCaseNonAsciiHaystack() {
+        assertFalse("Long s matched as s.", Utils.containsIgnoreCase("Ca\u017Ftle", "castle"));
+        assertFalse("Dotless i matched as i.", Utils.containsIgnoreCase("Har\u0131y", "hariy"));
+        assertFalse("Long s matched as s in a long substring.",
+                Utils.containsIgnoreCase("The Ca\u017Ftle in the Sky", "castle in the sky"));
+    }
+
+    @Test
+    public void testContainsIgnoreCaseMatchesLowerCaseContains() {
+        for (String haystack : HAYSTACKS) {
+            for (String needle : NEEDLES) {
+                boolean expected = haystack.toLowerCase().contains(needle.toLowerCase());
+                assertEquals("Unexpected result for \"" + haystack + "\" and \"" + needle + "\".",
+                        expected, Utils.containsIgnoreCase(haystack, needle));
+            }
+        }
+    }
+}